@@ -2,17 +2,50 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.3"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
+	id("com.google.protobuf") version "0.9.5"
 }
 
 group = "com.epam"
 version = "0.0.1-SNAPSHOT"
 
+// -PjavaVersion=21 opts into the virtual-threads profile runtime
+val javaVersion = providers.gradleProperty("javaVersion").map(String::toInt).getOrElse(17)
+
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(javaVersion)
 	}
 }
 
+// the reactive read path and its WebFlux/R2DBC stack, bundled only with -Preactive=true
+val reactive: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+val withReactive = providers.gradleProperty("reactive").map(String::toBoolean).getOrElse(false)
+
+configurations[reactive.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[reactive.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+configurations[reactive.compileOnlyConfigurationName].extendsFrom(configurations.compileOnly.get())
+configurations[reactive.annotationProcessorConfigurationName].extendsFrom(configurations.annotationProcessor.get())
+
+sourceSets.test {
+	compileClasspath += reactive.output
+	runtimeClasspath += reactive.output
+}
+configurations.testImplementation { extendsFrom(configurations[reactive.implementationConfigurationName]) }
+
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+	runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+configurations[loadTest.compileOnlyConfigurationName].extendsFrom(configurations.testCompileOnly.get())
+configurations[loadTest.annotationProcessorConfigurationName].extendsFrom(configurations.testAnnotationProcessor.get())
+
 repositories {
 	mavenCentral()
 }
@@ -23,19 +56,35 @@ object Versions {
 	const val LIQUIBASE = "4.32.0";
 	const val JUNIT = "5.13.3";
 	const val LOMBOK = "1.18.38";
+	const val JMH = "1.37";
+	const val PROTOBUF = "4.31.1";
 }
 
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.github.ben-manes.caffeine:jcache")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+	implementation("com.google.protobuf:protobuf-java:${Versions.PROTOBUF}")
 	developmentOnly("org.springframework.boot:spring-boot-docker-compose")
 
 	implementation(platform("org.springdoc:springdoc-openapi-bom:${Versions.SPRINGDOC}"))
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui")
 
 	implementation("org.liquibase:liquibase-core:${Versions.LIQUIBASE}")
-	runtimeOnly("org.postgresql:postgresql")
+	implementation("org.postgresql:postgresql")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+	"reactiveImplementation"("org.springframework.boot:spring-boot-starter-webflux")
+	"reactiveImplementation"("org.springframework:spring-r2dbc")
+	"reactiveImplementation"("org.postgresql:r2dbc-postgresql")
+	"reactiveImplementation"("io.r2dbc:r2dbc-pool")
 
 	compileOnly("org.projectlombok:lombok:${Versions.LOMBOK}")
 	annotationProcessor("org.projectlombok:lombok:${Versions.LOMBOK}")
@@ -53,10 +102,45 @@ dependencies {
 	testAnnotationProcessor("org.projectlombok:lombok:${Versions.LOMBOK}")
 }
 
+protobuf {
+	protoc {
+		artifact = "com.google.protobuf:protoc:${Versions.PROTOBUF}"
+	}
+}
+
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+tasks.test {
+	// -Pplan.record=true rewrites the query plan baseline
+	systemProperties(providers.gradlePropertiesPrefixedBy("plan.").get())
+}
+
+if (withReactive) {
+	tasks.bootJar { classpath(reactive.runtimeClasspath) }
+	tasks.bootRun { classpath(reactive.runtimeClasspath) }
+}
+
+tasks.register<Test>("loadTest") {
+	description = "Runs the load tests against a Testcontainers PostgreSQL. Pass -Pload.<name>=<value> to tune them."
+	group = LifecycleBasePlugin.VERIFICATION_GROUP
+	testClassesDirs = loadTest.output.classesDirs
+	classpath = loadTest.runtimeClasspath
+	shouldRunAfter(tasks.test)
+	systemProperties(providers.gradlePropertiesPrefixedBy("load.").get())
+	outputs.upToDateWhen { false }
+}
+
+jmh {
+	jmhVersion = Versions.JMH
+	includeTests = false
+	resultFormat = "JSON"
+	// archive per commit and compare with e.g. jmh.morethan.io
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+	providers.gradleProperty("jmh.includes").orNull?.let { includes = listOf(it) }
+}
+
 tasks.jar {
 	enabled = false
 }
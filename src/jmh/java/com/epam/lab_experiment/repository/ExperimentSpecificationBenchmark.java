@@ -0,0 +1,87 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria predicate construction for every combination of the six filters. The bits of
+ * {@code filters} select title, category, method, leadResearcher, status and startDate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExperimentSpecificationBenchmark {
+
+    @Param({
+            "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15",
+            "16", "17", "18", "19", "20", "21", "22", "23", "24", "25", "26", "27", "28", "29", "30", "31",
+            "32", "33", "34", "35", "36", "37", "38", "39", "40", "41", "42", "43", "44", "45", "46", "47",
+            "48", "49", "50", "51", "52", "53", "54", "55", "56", "57", "58", "59", "60", "61", "62", "63"
+    })
+    public int filters;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private Experiment filter;
+
+    @Setup
+    public void setUp() {
+        // metamodel only, no database connection is opened
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Experiment.class)
+                .setProperty(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+        filter = filter(filters);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate build() {
+        CriteriaQuery<Experiment> query = criteriaBuilder.createQuery(Experiment.class);
+        Root<Experiment> root = query.from(Experiment.class);
+        return ExperimentSpecification.build(filter).toPredicate(root, query, criteriaBuilder);
+    }
+
+    private static Experiment filter(int bits) {
+        return Experiment.builder()
+                .title((bits & 1) != 0 ? "Vaccine" : null)
+                .category((bits & 2) != 0 ? "Immunology" : null)
+                .method((bits & 4) != 0 ? "double-blind" : null)
+                .leadResearcher((bits & 8) != 0 ? "Alice" : null)
+                .status((bits & 16) != 0 ? ExperimentStatus.PLANNED : null)
+                .startDate((bits & 32) != 0 ? LocalDate.of(2024, 1, 1) : null)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory part of {@link ExperimentServiceImpl#update}: merging a partial update into the
+ * stored experiment and validating the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExperimentUpdateBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Experiment update;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        update = Experiment.builder()
+                .leadResearcher("Dr. J. Doe")
+                .status(ExperimentStatus.ONGOING)
+                .startDate(LocalDate.of(2025, 12, 1))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Experiment mergeAndValidate() {
+        Experiment existing = Experiment.builder()
+                .id(1L)
+                .title("Vaccine Study")
+                .leadResearcher("Dr. Alice")
+                .method("double-blind")
+                .status(ExperimentStatus.PLANNED)
+                .category("Immunology")
+                .startDate(LocalDate.of(2025, 10, 15))
+                .build();
+        ExperimentServiceImpl.merge(update, existing);
+        ExperimentServiceImpl.validate(validator, existing);
+        return existing;
+    }
+}
@@ -0,0 +1,141 @@
+package com.epam.lab_experiment.web;
+
+import com.epam.lab_experiment.model.CountStrategy;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import com.epam.lab_experiment.web.dto.PagedResponse;
+import com.epam.lab_experiment.web.proto.ExperimentPageMessage;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding and decoding cost of list responses in every encoding the API negotiates. The payload
+ * size, plain and gzipped, is logged at the start of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagedResponseEncodingBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(PagedResponseEncodingBenchmark.class);
+
+    @Param({"20", "200", "2000"})
+    public int pageSize;
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    public String encoding;
+
+    private Codec codec;
+    private PagedResponse<Experiment> page;
+    private byte[] encoded;
+
+    private interface Codec {
+        byte[] encode(PagedResponse<Experiment> page) throws IOException;
+
+        PagedResponse<Experiment> decode(byte[] bytes) throws IOException;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Experiment> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> Experiment.builder()
+                        .id(id)
+                        .title("Experiment " + id)
+                        .leadResearcher("Dr. " + id % 500)
+                        .method("double-blind")
+                        .status(ExperimentStatus.values()[(int) (id % ExperimentStatus.values().length)])
+                        .category("Immunology")
+                        .startDate(LocalDate.of(2020, 1, 1).plusDays(id))
+                        .version(id % 3)
+                        .updatedAt(Instant.parse("2025-01-01T00:00:00Z").plusSeconds(id))
+                        .build())
+                .toList();
+        page = new PagedResponse<>(content, 0, pageSize, 1_000_000L, 1_000_000 / pageSize, true, CountStrategy.EXACT);
+        codec = switch (encoding) {
+            case "json" -> jackson(Jackson2ObjectMapperBuilder.json());
+            case "smile" -> jackson(Jackson2ObjectMapperBuilder.smile());
+            case "cbor" -> jackson(Jackson2ObjectMapperBuilder.cbor());
+            case "protobuf" -> new Codec() {
+                @Override
+                public byte[] encode(PagedResponse<Experiment> page) {
+                    return ExperimentProtobufHttpMessageConverter.toMessage(page).toByteArray();
+                }
+
+                @Override
+                public PagedResponse<Experiment> decode(byte[] bytes) throws IOException {
+                    return ExperimentProtobufHttpMessageConverter.fromMessage(ExperimentPageMessage.parseFrom(bytes));
+                }
+            };
+            default -> throw new IllegalArgumentException(encoding);
+        };
+        encoded = codec.encode(page);
+        log.info("{}, page size {}: {} bytes, {} gzipped", encoding, pageSize, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return codec.encode(page);
+    }
+
+    @Benchmark
+    public PagedResponse<Experiment> decode() throws IOException {
+        return codec.decode(encoded);
+    }
+
+    private static Codec jackson(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(PagedResponse.class, Experiment.class);
+        ObjectWriter writer = objectMapper.writerFor(type);
+        ObjectReader reader = objectMapper.readerFor(type);
+        return new Codec() {
+            @Override
+            public byte[] encode(PagedResponse<Experiment> page) throws IOException {
+                return writer.writeValueAsBytes(page);
+            }
+
+            @Override
+            public PagedResponse<Experiment> decode(byte[] bytes) throws IOException {
+                return reader.readValue(bytes);
+            }
+        };
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,68 @@
+package com.epam.lab_experiment.web;
+
+import com.epam.lab_experiment.model.CountStrategy;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import com.epam.lab_experiment.web.dto.PagedResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JSON serialization of list responses, with the object mapper configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagedResponseSerializationBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PagedResponse<Experiment> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<Experiment> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> Experiment.builder()
+                        .id(id)
+                        .title("Experiment " + id)
+                        .leadResearcher("Dr. " + id % 500)
+                        .method("double-blind")
+                        .status(ExperimentStatus.values()[(int) (id % ExperimentStatus.values().length)])
+                        .category("Immunology")
+                        .startDate(LocalDate.of(2020, 1, 1).plusDays(id))
+                        .build())
+                .toList();
+        page = new PagedResponse<>(content, 0, pageSize, 1_000_000L, 1_000_000 / pageSize, true, CountStrategy.EXACT);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
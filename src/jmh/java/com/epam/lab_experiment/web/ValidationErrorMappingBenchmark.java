@@ -0,0 +1,67 @@
+package com.epam.lab_experiment.web;
+
+import com.epam.lab_experiment.model.Experiment;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of validation failures to the error response body by the {@link ExperimentController}
+ * exception handlers, for an experiment that violates every constraint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationErrorMappingBenchmark {
+
+    private ExperimentController controller;
+    private ConstraintViolationException constraintViolations;
+    private MethodArgumentNotValidException invalidArgument;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        controller = new ExperimentController(null, null, null);
+
+        Experiment invalid = new Experiment();
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            constraintViolations = new ConstraintViolationException(validatorFactory.getValidator().validate(invalid));
+        }
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(invalid, "experiment");
+        constraintViolations.getConstraintViolations().forEach(violation -> bindingResult.addError(new FieldError(
+                "experiment", violation.getPropertyPath().toString(), violation.getMessage())));
+        invalidArgument = new MethodArgumentNotValidException(
+                new MethodParameter(ExperimentController.class.getDeclaredMethod("create", Experiment.class), 0),
+                bindingResult);
+    }
+
+    @Benchmark
+    public Map<String, String> constraintViolations() {
+        return controller.handleValidationExceptions(constraintViolations);
+    }
+
+    @Benchmark
+    public Map<String, String> methodArgumentNotValid() {
+        return controller.handleValidationExceptions(invalidArgument);
+    }
+}
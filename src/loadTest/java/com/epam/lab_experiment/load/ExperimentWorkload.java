@@ -0,0 +1,158 @@
+package com.epam.lab_experiment.load;
+
+import com.epam.lab_experiment.model.ExperimentStatus;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * Weighted mix of {@code /experiments} requests. Each operation is labelled with its endpoint and
+ * the shape of its filter, which is how the report groups the results. Filter values are drawn
+ * from the {@link SyntheticDataset} vocabularies with the same skew as the data, so popular
+ * values are also queried more often.
+ */
+final class ExperimentWorkload {
+
+    record Operation(String endpoint, String shape, double weight, BiFunction<URI, Random, HttpRequest> request) {
+    }
+
+    private static final String JSON = "application/json";
+
+    private final List<Operation> operations;
+    private final double[] cumulativeWeights;
+    private final List<Long> ids;
+
+    /**
+     * @param writeRatio share of requests that create or patch experiments
+     * @param ids        existing ids to patch
+     */
+    ExperimentWorkload(double writeRatio, List<Long> ids) {
+        if (writeRatio < 0 || writeRatio > 1) {
+            throw new IllegalArgumentException("Write ratio must be between 0 and 1: " + writeRatio);
+        }
+        this.ids = ids;
+        List<Operation> reads = List.of(
+                new Operation("GET /experiments", "none", 15, (base, random) ->
+                        get(base, "experiments?page=%d".formatted(page(random)))),
+                new Operation("GET /experiments", "status", 15, (base, random) ->
+                        get(base, "experiments?status=%s&page=%d".formatted(status(random), page(random)))),
+                new Operation("GET /experiments", "status+category", 10, (base, random) ->
+                        get(base, "experiments?status=%s&category=%s&page=%d".formatted(
+                                status(random), pick(SyntheticDataset.CATEGORIES, random, 3), page(random)))),
+                new Operation("GET /experiments", "category+method+startDate", 5, (base, random) ->
+                        get(base, "experiments?category=%s&method=%s&startDate=%s".formatted(
+                                pick(SyntheticDataset.CATEGORIES, random, 3), pick(SyntheticDataset.METHODS, random, 2),
+                                startDate(random)))),
+                new Operation("GET /experiments", "title", 5, (base, random) ->
+                        get(base, "experiments?title=%s".formatted(
+                                encode(pick(SyntheticDataset.TOPICS, random, 2).toLowerCase())))),
+                new Operation("GET /experiments", "leadResearcher", 5, (base, random) ->
+                        get(base, "experiments?leadResearcher=%s".formatted(pick(SyntheticDataset.SURNAMES, random, 2)))),
+                new Operation("GET /experiments", "status,count=ESTIMATED", 5, (base, random) ->
+                        get(base, "experiments?status=%s&count=ESTIMATED&page=%d".formatted(status(random), page(random)))),
+                new Operation("GET /experiments?cursor", "status", 10, (base, random) ->
+                        get(base, "experiments?status=%s&cursor=&sort=title".formatted(status(random)))),
+                new Operation("GET /experiments/search", "q", 5, (base, random) ->
+                        get(base, "experiments/search?q=%s".formatted(
+                                encode(pick(SyntheticDataset.TOPICS, random, 2).toLowerCase())))),
+                new Operation("GET /experiments/facets", "none", 5, (base, random) ->
+                        get(base, "experiments/facets")),
+                new Operation("GET /experiments/facets", "category", 5, (base, random) ->
+                        get(base, "experiments/facets?category=%s".formatted(pick(SyntheticDataset.CATEGORIES, random, 3))))
+        );
+        List<Operation> writes = List.of(
+                new Operation("POST /experiments", "-", 1, ExperimentWorkload::create),
+                new Operation("PATCH /experiments/{id}", "-", 1, this::patch)
+        );
+        this.operations = new ArrayList<>();
+        operations.addAll(scale(reads, 1 - writeRatio));
+        operations.addAll(scale(writes, writeRatio));
+
+        this.cumulativeWeights = new double[operations.size()];
+        double sum = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            sum += operations.get(i).weight();
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    Operation next(Random random) {
+        double point = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private static List<Operation> scale(List<Operation> operations, double share) {
+        double total = operations.stream().mapToDouble(Operation::weight).sum();
+        return operations.stream()
+                .filter(operation -> share > 0)
+                .map(operation -> new Operation(operation.endpoint(), operation.shape(),
+                        operation.weight() / total * share, operation.request()))
+                .toList();
+    }
+
+    private static HttpRequest create(URI base, Random random) {
+        String body = """
+                {"title":"%s load %d","leadResearcher":"Dr. %s","method":"%s","status":"PLANNED","category":"%s","startDate":"%s"}
+                """.formatted(pick(SyntheticDataset.TOPICS, random, 2), random.nextInt(1_000_000),
+                pick(SyntheticDataset.SURNAMES, random, 2), pick(SyntheticDataset.METHODS, random, 2),
+                pick(SyntheticDataset.CATEGORIES, random, 3), startDate(random));
+        return HttpRequest.newBuilder(base.resolve("experiments"))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest patch(URI base, Random random) {
+        long id = ids.get(random.nextInt(ids.size()));
+        String body = """
+                {"status":"%s"}
+                """.formatted(status(random));
+        return HttpRequest.newBuilder(base.resolve("experiments/" + id))
+                .header("Content-Type", JSON)
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).header("Accept", JSON).GET().build();
+    }
+
+    /**
+     * Mostly the first pages, occasionally a deep one.
+     */
+    private static int page(Random random) {
+        return random.nextDouble() < 0.9 ? random.nextInt(5) : random.nextInt(500);
+    }
+
+    private static ExperimentStatus status(Random random) {
+        ExperimentStatus[] statuses = ExperimentStatus.values();
+        return statuses[random.nextInt(statuses.length)];
+    }
+
+    private static LocalDate startDate(Random random) {
+        return LocalDate.of(2016, 1, 1).plusDays(random.nextInt(3650));
+    }
+
+    /**
+     * Same skew as the seeding SQL: {@code values[floor(r^exponent * size)]}.
+     */
+    private static String pick(List<String> values, Random random, int exponent) {
+        return values.get((int) (Math.pow(random.nextDouble(), exponent) * values.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
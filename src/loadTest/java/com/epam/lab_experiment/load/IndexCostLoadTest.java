@@ -0,0 +1,166 @@
+package com.epam.lab_experiment.load;
+
+import com.epam.lab_experiment.PostgresTestContainer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Justifies each filter/sort index against its write cost: times a query shape it is meant for
+ * and a batch insert with the index, then again after dropping it inside a transaction that is
+ * rolled back, so the schema is left untouched.
+ * <p>
+ * An index only pays for its write cost when the planner picks it for its query and the query is
+ * faster with it, so the test fails for any index that does neither; such an index should be dropped.
+ * <p>
+ * Run with {@code ./gradlew loadTest --tests '*IndexCostLoadTest'}; tune with {@code -Pload.rows},
+ * {@code -Pload.repetitions} and {@code -Pload.insertRows}.
+ */
+@Slf4j
+class IndexCostLoadTest extends PostgresTestContainer {
+
+    private static final long ROWS = Long.getLong("load.rows", 1_000_000);
+    private static final int REPETITIONS = Integer.getInteger("load.repetitions", 20);
+    private static final int INSERT_ROWS = Integer.getInteger("load.insertRows", 10_000);
+
+    private static final Path REPORT = Path.of("build", "reports", "load", "index-cost.txt");
+
+    private static final String INSERT = """
+            INSERT INTO experiment (title, lead_researcher, method, status, category, start_date)
+            SELECT 'Insert cost ' || n, 'Dr. Smith 1', 'randomized', 'PLANNED', 'Oncology', DATE '2025-01-01' + n % 365
+            FROM generate_series(1, %d) AS n
+            """.formatted(INSERT_ROWS);
+
+    private record Case(String index, String query) {
+    }
+
+    private static final List<Case> CASES = List.of(
+            new Case("experiment_status_id_idx",
+                    "SELECT * FROM experiment WHERE status = 'ONGOING' ORDER BY id DESC LIMIT 20"),
+            new Case("experiment_category_id_idx",
+                    "SELECT * FROM experiment WHERE category = 'Virology' ORDER BY id DESC LIMIT 20"),
+            new Case("experiment_method_id_idx",
+                    "SELECT * FROM experiment WHERE method = 'cohort' ORDER BY id DESC LIMIT 20"),
+            new Case("experiment_start_date_id_idx",
+                    "SELECT * FROM experiment WHERE start_date >= DATE '2025-06-01' ORDER BY start_date DESC LIMIT 20"),
+            new Case("experiment_title_id_idx",
+                    "SELECT * FROM experiment ORDER BY title LIMIT 20"),
+            new Case("experiment_active_status_start_date_idx",
+                    "SELECT count(*) FROM experiment WHERE status = 'PLANNED' AND start_date >= DATE '2025-06-01'")
+    );
+
+    @DisplayName("Compare query and insert latency with and without each filter/sort index")
+    @Test
+    void compareWithAndWithoutIndexes() throws Exception {
+        List<String> rows = new ArrayList<>();
+        List<String> unused = new ArrayList<>();
+        List<String> notFaster = new ArrayList<>();
+        try (ConfigurableApplicationContext app = LoadTestApplication.start(POSTGRE_SQL_CONTAINER, Map.of(), "test")) {
+            new SyntheticDataset(app.getBean(JdbcTemplate.class)).seed(ROWS);
+            try (Connection connection = app.getBean(DataSource.class).getConnection()) {
+                connection.setAutoCommit(false);
+                for (Case indexCase : CASES) {
+                    if (!usesIndex(connection, indexCase)) {
+                        unused.add(indexCase.index());
+                    }
+                    double queryWith = medianMillis(connection, indexCase.query());
+                    double insertWith = insertMillis(connection);
+                    double queryWithout;
+                    double insertWithout;
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("DROP INDEX " + indexCase.index());
+                        queryWithout = medianMillis(connection, indexCase.query());
+                        insertWithout = insertMillis(connection);
+                    } finally {
+                        connection.rollback();
+                    }
+                    if (queryWith >= queryWithout) {
+                        notFaster.add(indexCase.index());
+                    }
+                    rows.add("%-42s %12.2f %12.2f %14.1f %14.1f".formatted(
+                            indexCase.index(), queryWith, queryWithout, insertWith, insertWithout));
+                }
+            }
+        }
+
+        String report = String.join(System.lineSeparator(),
+                "rows=%d repetitions=%d insertRows=%d".formatted(ROWS, REPETITIONS, INSERT_ROWS),
+                "%-42s %12s %12s %14s %14s".formatted(
+                        "index", "query ms", "without", "insert ms", "without"),
+                String.join(System.lineSeparator(), rows));
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report + System.lineSeparator());
+        log.info("Index cost report, also written to {}{}{}", REPORT, System.lineSeparator(), report);
+
+        assertThat(rows).hasSize(CASES.size());
+        assertThat(unused).as("indexes not picked for their query").isEmpty();
+        assertThat(notFaster).as("indexes that do not speed up their query").isEmpty();
+    }
+
+    /**
+     * Partition indexes are named after the parent index, experiment_y2025_status_id_idx for
+     * experiment_status_id_idx, so a plan over any partition index of the case counts.
+     */
+    private static boolean usesIndex(Connection connection, Case indexCase) throws SQLException {
+        Pattern scan = Pattern.compile("\\b(using|on) experiment(_\\w+)?"
+                + Pattern.quote(indexCase.index().substring("experiment".length())) + "\\b");
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN " + indexCase.query())) {
+            while (plan.next()) {
+                if (scan.matcher(plan.getString(1)).find()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static double medianMillis(Connection connection, String query) throws SQLException {
+        long[] durations = new long[REPETITIONS];
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i < REPETITIONS; i++) {
+                long started = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery(query)) {
+                    while (resultSet.next()) {
+                        // drain
+                    }
+                }
+                durations[i] = System.nanoTime() - started;
+            }
+        }
+        Arrays.sort(durations);
+        return durations[REPETITIONS / 2] / 1e6;
+    }
+
+    /**
+     * Inserted rows are rolled back to a savepoint so every measurement starts from the same table.
+     */
+    private static double insertMillis(Connection connection) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try (Statement statement = connection.createStatement()) {
+            long started = System.nanoTime();
+            statement.executeUpdate(INSERT);
+            return (System.nanoTime() - started) / 1e6;
+        } finally {
+            connection.rollback(savepoint);
+        }
+    }
+}
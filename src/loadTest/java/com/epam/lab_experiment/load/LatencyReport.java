@@ -0,0 +1,86 @@
+package com.epam.lab_experiment.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Latencies and outcomes grouped by endpoint and filter shape.
+ */
+final class LatencyReport {
+
+    private static final String HEADER = "%-26s %-28s %8s %9s %9s %9s %9s %9s %8s".formatted(
+            "endpoint", "filter shape", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors");
+
+    private final Map<Key, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, String shape, long latencyNanos, boolean failed) {
+        samples.computeIfAbsent(new Key(endpoint, shape), key -> new Samples()).add(latencyNanos, failed);
+    }
+
+    long requests() {
+        return samples.values().stream().mapToLong(Samples::size).sum();
+    }
+
+    long errors() {
+        return samples.values().stream().mapToLong(Samples::errors).sum();
+    }
+
+    /**
+     * @param measured length of the measurement window, used for throughput
+     */
+    String format(Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        String rows = samples.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Key::endpoint).thenComparing(Key::shape)))
+                .map(entry -> entry.getValue().format(entry.getKey(), seconds))
+                .collect(Collectors.joining(System.lineSeparator()));
+        return String.join(System.lineSeparator(), HEADER, rows,
+                "%-55s %8d %9.1f %49.2f%%".formatted("total", requests(), requests() / seconds,
+                        requests() == 0 ? 0 : 100.0 * errors() / requests()));
+    }
+
+    private record Key(String endpoint, String shape) {
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long latencyNanos, boolean failed) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (failed) {
+                errors++;
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        synchronized String format(Key key, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return "%-26s %-28s %8d %9.1f %9.1f %9.1f %9.1f %9.1f %7.2f%%".formatted(
+                    key.endpoint(), key.shape(), size, size / seconds,
+                    millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99), millis(sorted, 1.0),
+                    100.0 * errors / size);
+        }
+
+        private static double millis(long[] sorted, double percentile) {
+            return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1e6;
+        }
+    }
+}
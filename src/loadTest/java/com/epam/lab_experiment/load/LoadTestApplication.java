@@ -0,0 +1,41 @@
+package com.epam.lab_experiment.load;
+
+import com.epam.lab_experiment.LabExperimentApplication;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts the application on a random port against a Testcontainers PostgreSQL, outside of the
+ * Spring test context so that a test can run several configurations one after another.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class LoadTestApplication {
+
+    static ConfigurableApplicationContext start(PostgreSQLContainer<?> postgres, Map<String, String> properties,
+                                                String... profiles) {
+        Map<String, Object> defaults = new HashMap<>(Map.of(
+                "server.port", "0",
+                "spring.datasource.url", postgres.getJdbcUrl(),
+                "spring.datasource.username", postgres.getUsername(),
+                "spring.datasource.password", postgres.getPassword()
+        ));
+        defaults.putAll(properties);
+        return new SpringApplicationBuilder(LabExperimentApplication.class)
+                .profiles(profiles)
+                .properties(defaults)
+                .run();
+    }
+
+    static URI baseUri(ConfigurableApplicationContext app) {
+        int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+        return URI.create("http://localhost:" + port + "/");
+    }
+}
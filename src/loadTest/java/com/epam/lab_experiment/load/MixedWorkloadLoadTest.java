@@ -0,0 +1,71 @@
+package com.epam.lab_experiment.load;
+
+import com.epam.lab_experiment.PostgresTestContainer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds a large skewed dataset and drives a mixed read/write workload against
+ * {@code /experiments} at a fixed request rate, reporting latency percentiles, throughput and
+ * error rate per endpoint and filter shape.
+ * <p>
+ * Run with {@code ./gradlew loadTest --tests '*MixedWorkloadLoadTest'}; tune with
+ * {@code -Pload.rows} (1M to 50M), {@code -Pload.rate} (requests per second),
+ * {@code -Pload.writeRatio}, {@code -Pload.warmupSeconds}, {@code -Pload.durationSeconds},
+ * {@code -Pload.profiles} and {@code -Pload.maxErrorRate}. The seed of the data and of the
+ * request sequence is fixed, so runs with the same parameters are comparable.
+ */
+@Slf4j
+class MixedWorkloadLoadTest extends PostgresTestContainer {
+
+    private static final long ROWS = Long.getLong("load.rows", 1_000_000);
+    private static final int RATE = Integer.getInteger("load.rate", 200);
+    private static final double WRITE_RATIO = Double.parseDouble(System.getProperty("load.writeRatio", "0.1"));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 15));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.durationSeconds", 60));
+    private static final String PROFILES = System.getProperty("load.profiles", "test");
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+
+    private static final Path REPORT = Path.of("build", "reports", "load", "mixed-workload.txt");
+
+    @DisplayName("Drive a mixed read/write workload against a large synthetic dataset")
+    @Test
+    void mixedWorkload() throws Exception {
+        try (ConfigurableApplicationContext app = LoadTestApplication.start(POSTGRE_SQL_CONTAINER,
+                Map.of("spring.datasource.hikari.maximum-pool-size", System.getProperty("load.poolSize", "10")),
+                PROFILES.split(","))) {
+            SyntheticDataset dataset = new SyntheticDataset(app.getBean(JdbcTemplate.class));
+            dataset.seed(ROWS);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            ExperimentWorkload workload = new ExperimentWorkload(WRITE_RATIO, dataset.sampleIds(10_000));
+            LatencyReport report = new OpenLoopDriver(client, workload, 42)
+                    .run(LoadTestApplication.baseUri(app), RATE, WARMUP, DURATION);
+
+            String text = String.join(System.lineSeparator(),
+                    "rows=%d rate=%d/s writeRatio=%.2f warmup=%s duration=%s profiles=%s".formatted(
+                            ROWS, RATE, WRITE_RATIO, WARMUP, DURATION, PROFILES),
+                    report.format(DURATION));
+            log.info("Mixed workload report, also written to {}{}{}", REPORT, System.lineSeparator(), text);
+            Files.createDirectories(REPORT.getParent());
+            Files.writeString(REPORT, text + System.lineSeparator());
+
+            assertThat(report.requests()).isPositive();
+            assertThat((double) report.errors() / report.requests()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.epam.lab_experiment.load;
+
+import lombok.RequiredArgsConstructor;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests on a fixed schedule regardless of how fast the server answers, so a slow server
+ * faces a growing backlog instead of a politely reduced rate. Latency is measured from the
+ * scheduled send time, which keeps queueing delay in the numbers (no coordinated omission).
+ */
+@RequiredArgsConstructor
+final class OpenLoopDriver {
+
+    private final HttpClient client;
+    private final ExperimentWorkload workload;
+    private final long seed;
+
+    /**
+     * @param rate     requests per second
+     * @param warmup   leading period whose requests are sent but not recorded
+     * @param duration recorded period
+     */
+    LatencyReport run(URI base, int rate, Duration warmup, Duration duration) throws Exception {
+        LatencyReport report = new LatencyReport();
+        Random random = new Random(seed);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        var inFlight = ConcurrentHashMap.<CompletableFuture<?>>newKeySet();
+        for (long scheduled = start; scheduled < end; scheduled += interval) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            ExperimentWorkload.Operation operation = workload.next(random);
+            long sentAt = scheduled;
+            boolean recorded = scheduled >= measureFrom;
+            CompletableFuture<?> response = client
+                    .sendAsync(operation.request().apply(base, random), HttpResponse.BodyHandlers.discarding())
+                    .handle((result, failure) -> {
+                        if (recorded) {
+                            boolean failed = failure != null || result.statusCode() >= 400;
+                            report.record(operation.endpoint(), operation.shape(), System.nanoTime() - sentAt, failed);
+                        }
+                        return null;
+                    });
+            inFlight.add(response);
+            response.whenComplete((result, failure) -> inFlight.remove(response));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+        return report;
+    }
+}
@@ -0,0 +1,131 @@
+package com.epam.lab_experiment.load;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Seeds {@code experiment} with a reproducible synthetic dataset whose value distributions are
+ * skewed the way real catalogues are: a few categories, methods and researchers own most rows,
+ * most experiments are completed and some have no start date.
+ * <p>
+ * Rows are generated server-side with {@code generate_series} in chunks, on one connection with
+ * a fixed {@code setseed}, so the same row count always yields the same data.
+ */
+@Slf4j
+@RequiredArgsConstructor
+final class SyntheticDataset {
+
+    static final List<String> CATEGORIES = List.of(
+            "Oncology", "Immunology", "Virology", "Cardiology", "Neurology", "Endocrinology",
+            "Genetics", "Microbiology", "Pharmacology", "Epidemiology", "Hematology", "Nephrology",
+            "Dermatology", "Psychiatry", "Pediatrics", "Gastroenterology", "Pulmonology", "Radiology",
+            "Toxicology", "Rheumatology", "Ophthalmology", "Urology", "Geriatrics", "Anesthesiology",
+            "Bioinformatics", "Parasitology", "Nutrition", "Proteomics", "Virotherapy", "Audiology");
+
+    static final List<String> METHODS = List.of(
+            "randomized", "double-blind", "observational", "case-control", "in-vitro", "cohort",
+            "cross-sectional", "in-vivo", "single-blind", "crossover", "meta-analysis", "in-silico");
+
+    static final List<String> TOPICS = List.of(
+            "Vaccine", "Antibody", "Biomarker", "Tumor", "Insulin", "Gene", "Protein", "Stem Cell",
+            "Microbiome", "Receptor", "Enzyme", "Plasma", "Neuron", "Cytokine", "Antigen", "Hormone",
+            "Pathogen", "Inhibitor", "Lipid", "Peptide", "Kinase", "Toxin", "Mutation", "Antiviral",
+            "Membrane", "Mitochondria", "Platelet", "Retina", "Cartilage", "Synapse", "Ligand",
+            "Allergen", "Sequencing", "Imaging", "Dosage", "Therapy", "Screening", "Resistance",
+            "Response", "Exposure");
+
+    static final List<String> SURNAMES = List.of(
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+            "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor",
+            "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez",
+            "Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young", "Allen", "King", "Wright",
+            "Scott", "Torres", "Nguyen", "Hill", "Flores", "Green", "Adams", "Nelson", "Baker", "Hall",
+            "Rivera", "Campbell", "Mitchell", "Carter", "Roberts");
+
+    /**
+     * Status shares, cumulative: completed 50%, ongoing 25%, planned 20%, cancelled 5%.
+     * Categories, methods, topics and researchers are drawn as {@code array[1 + floor(r^k * n)]},
+     * which makes the first entries far more frequent than the last ones.
+     */
+    private static final String INSERT = """
+            INSERT INTO experiment (title, lead_researcher, method, status, category, start_date)
+            SELECT {topics}[1 + floor(power(rt, 2) * cardinality({topics}))::int] || ' study ' || n,
+                   'Dr. ' || {surnames}[1 + floor(power(rl, 2) * cardinality({surnames}))::int]
+                          || ' ' || floor(power(rn, 3) * 100)::int,
+                   {methods}[1 + floor(power(rm, 2) * cardinality({methods}))::int],
+                   CASE WHEN rs < 0.50 THEN 'COMPLETED'
+                        WHEN rs < 0.75 THEN 'ONGOING'
+                        WHEN rs < 0.95 THEN 'PLANNED'
+                        ELSE 'CANCELLED' END,
+                   {categories}[1 + floor(power(rc, 3) * cardinality({categories}))::int],
+                   CASE WHEN rd < 0.1 THEN NULL
+                        ELSE DATE '2016-01-01' + floor(sqrt(rd) * 3650)::int END
+            FROM (SELECT n, random() AS rt, random() AS rl, random() AS rn, random() AS rm,
+                         random() AS rs, random() AS rc, random() AS rd
+                  FROM generate_series(?, ?) AS n) AS g
+            """
+            .replace("{topics}", array(TOPICS))
+            .replace("{surnames}", array(SURNAMES))
+            .replace("{methods}", array(METHODS))
+            .replace("{categories}", array(CATEGORIES));
+
+    private static final int FIRST_YEAR = 2016;
+    private static final int LAST_YEAR = 2025;
+    private static final int CHUNK = 1_000_000;
+    private static final double SEED = 0.42;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts {@code rows} experiments unless the table already holds at least that many, then
+     * refreshes planner statistics.
+     */
+    void seed(long rows) {
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM experiment", Long.class);
+        if (existing != null && existing >= rows) {
+            return;
+        }
+        long from = existing == null ? 1 : existing + 1;
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                // partitions up front, so rows are routed once instead of moved out of the default partition
+                statement.execute("SELECT experiment_create_partition(y) FROM generate_series(%d, %d) AS y"
+                        .formatted(FIRST_YEAR, LAST_YEAR));
+                statement.execute("SELECT setseed(" + SEED + ")");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                for (long start = from; start <= rows; start += CHUNK) {
+                    long end = Math.min(start + CHUNK - 1, rows);
+                    insert.setLong(1, start);
+                    insert.setLong(2, end);
+                    insert.executeUpdate();
+                    log.info("Seeded {} / {} experiments", end, rows);
+                }
+            }
+            return null;
+        });
+        jdbcTemplate.execute("VACUUM ANALYZE experiment");
+    }
+
+    /**
+     * A uniform sample of existing ids; ids are not contiguous because the sequence allocates
+     * them in blocks.
+     */
+    List<Long> sampleIds(int size) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM experiment TABLESAMPLE SYSTEM (1) REPEATABLE (42) LIMIT ?", Long.class, size);
+    }
+
+    private static String array(List<String> values) {
+        return values.stream()
+                .map(value -> "'" + value.replace("'", "''") + "'")
+                .collect(Collectors.joining(", ", "ARRAY[", "]"));
+    }
+}
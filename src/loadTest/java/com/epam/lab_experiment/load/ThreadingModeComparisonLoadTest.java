@@ -0,0 +1,140 @@
+package com.epam.lab_experiment.load;
+
+import com.epam.lab_experiment.PostgresTestContainer;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the same burst of list requests against the default platform-thread mode and the
+ * {@code virtual-threads} profile, both on a default-sized connection pool, and reports latency
+ * percentiles, throughput and rejections side by side.
+ * <p>
+ * Run with {@code ./gradlew loadTest -PjavaVersion=21}; tune with {@code -Pload.concurrency},
+ * {@code -Pload.requests} and {@code -Pload.rows}.
+ */
+@Slf4j
+class ThreadingModeComparisonLoadTest extends PostgresTestContainer {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 1000);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 20_000);
+    private static final int ROWS = Integer.getInteger("load.rows", 100_000);
+
+    private static final Path REPORT = Path.of("build", "reports", "load", "threading-modes.txt");
+
+    @DisplayName("Compare platform threads with virtual threads and the pool-sized concurrency limit")
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads need Java 21, run with -PjavaVersion=21");
+
+        Result platform = run("platform threads", "test");
+        Result virtual = run("virtual threads", "test", "virtual-threads");
+
+        String report = String.join(System.lineSeparator(),
+                "concurrency=%d requests=%d rows=%d".formatted(CONCURRENCY, REQUESTS, ROWS),
+                Result.HEADER, platform.toString(), virtual.toString());
+        log.info("Threading mode comparison, also written to {}{}{}", REPORT, System.lineSeparator(), report);
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report + System.lineSeparator());
+
+        assertThat(platform.failed()).isZero();
+        assertThat(virtual.failed()).isZero();
+    }
+
+    private Result run(String mode, String... profiles) throws InterruptedException {
+        // measure the database path, not cache hits
+        try (ConfigurableApplicationContext app = LoadTestApplication.start(POSTGRE_SQL_CONTAINER,
+                Map.of("experiment.search-cache.maximum-size", "0"), profiles)) {
+            new SyntheticDataset(app.getBean(JdbcTemplate.class)).seed(ROWS);
+            return drive(mode, LoadTestApplication.baseUri(app).resolve("experiments"));
+        }
+    }
+
+    private static Result drive(String mode, URI endpoint) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<ExperimentStatus> statuses = List.of(ExperimentStatus.values());
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        long started = System.nanoTime();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            clients.execute(() -> {
+                for (int n = next.getAndIncrement(); n < REQUESTS; n = next.getAndIncrement()) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    URI uri = endpoint.resolve("?status=%s&page=%d&size=20".formatted(
+                            statuses.get(random.nextInt(statuses.size())), random.nextInt(50)));
+                    long requestStarted = System.nanoTime();
+                    try {
+                        int status = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                                HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else if (status != 200) {
+                            failed.incrementAndGet();
+                        }
+                    } catch (IOException ex) {
+                        failed.incrementAndGet();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    latencies[n] = System.nanoTime() - requestStarted;
+                }
+            });
+        }
+        clients.shutdown();
+        assertThat(clients.awaitTermination(30, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        return new Result(mode, REQUESTS * 1e9 / elapsed,
+                millis(latencies, 0.50), millis(latencies, 0.95), millis(latencies, 0.99),
+                rejected.get(), failed.get());
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1e6;
+    }
+
+    private record Result(String mode, double throughput, double p50, double p95, double p99,
+                          int rejected, int failed) {
+
+        static final String HEADER = "%-18s %10s %9s %9s %9s %9s %7s".formatted(
+                "mode", "req/s", "p50 ms", "p95 ms", "p99 ms", "rejected", "failed");
+
+        @Override
+        public String toString() {
+            return "%-18s %10.1f %9.1f %9.1f %9.1f %9d %7d".formatted(
+                    mode, throughput, p50, p95, p99, rejected, failed);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param size number of experiments written per transaction by bulk operations,
+ *             also used as the Hibernate JDBC batch size
+ */
+@ConfigurationProperties("experiment.batch")
+public record ExperimentBatchProperties(@DefaultValue("100") int size) {
+}
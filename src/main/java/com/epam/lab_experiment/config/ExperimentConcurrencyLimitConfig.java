@@ -0,0 +1,64 @@
+package com.epam.lab_experiment.config;
+
+import com.epam.lab_experiment.service.ExperimentConcurrencyLimiter;
+import com.epam.lab_experiment.service.ExperimentService;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Limits concurrent {@link ExperimentService} calls. The advisors run before the transaction
+ * interceptor, so a call only takes a connection once it holds a permit.
+ * <p>
+ * Streaming calls keep their permit, and their connection, for as long as the client reads or
+ * writes, so they get {@code streaming-permits} of the total to themselves and slow clients
+ * cannot starve the other calls.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "experiment.concurrency-limit.enabled", havingValue = "true")
+public class ExperimentConcurrencyLimitConfig {
+
+    private static final Set<String> STREAMING_METHODS = Set.of("export", "importCsv");
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor experimentConcurrencyLimitAdvisor(ExperimentConcurrencyLimitProperties properties) {
+        return advisor(streaming(false), properties.permits() - properties.streamingPermits(), properties);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor experimentStreamingConcurrencyLimitAdvisor(ExperimentConcurrencyLimitProperties properties) {
+        return advisor(streaming(true), properties.streamingPermits(), properties);
+    }
+
+    private static Advisor advisor(MethodMatcher methods, int permits, ExperimentConcurrencyLimitProperties properties) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(new RootClassFilter(ExperimentService.class), methods),
+                new ExperimentConcurrencyLimiter(permits, properties.acquireTimeout())
+        );
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    private static MethodMatcher streaming(boolean streaming) {
+        return new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return STREAMING_METHODS.contains(method.getName()) == streaming;
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled          whether {@code ExperimentService} calls are limited at all
+ * @param permits          maximum number of concurrent service calls, normally the connection pool size
+ * @param streamingPermits part of {@code permits} set aside for streamed exports and CSV imports, which
+ *                         hold theirs until the client is done
+ * @param acquireTimeout   time a call waits for a permit before it is rejected as overloaded
+ */
+@ConfigurationProperties("experiment.concurrency-limit")
+public record ExperimentConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int permits,
+        @DefaultValue("2") int streamingPermits,
+        @DefaultValue("5s") Duration acquireTimeout
+) {
+
+    public ExperimentConcurrencyLimitProperties {
+        if (enabled && (streamingPermits < 1 || streamingPermits >= permits)) {
+            throw new IllegalArgumentException("streaming-permits must be at least 1 and less than permits ("
+                    + permits + "), was " + streamingPermits);
+        }
+    }
+}
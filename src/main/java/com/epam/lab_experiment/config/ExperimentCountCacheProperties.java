@@ -0,0 +1,17 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maximumSize maximum number of memoized filter counts
+ * @param ttl         time a count is reused after it was taken, regardless of writes
+ */
+@ConfigurationProperties("experiment.count-cache")
+public record ExperimentCountCacheProperties(
+        @DefaultValue("1000") long maximumSize,
+        @DefaultValue("10s") Duration ttl
+) {
+}
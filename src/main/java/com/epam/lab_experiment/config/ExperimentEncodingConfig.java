@@ -0,0 +1,44 @@
+package com.epam.lab_experiment.config;
+
+import com.epam.lab_experiment.web.ExperimentProtobufHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary encodings negotiated through the Accept header: CBOR and Smile with the application's
+ * Jackson settings, and protobuf. All of them come after the JSON converter, so JSON stays the
+ * default for {@code Accept: *}{@code /*}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ExperimentEncodingConfig implements WebMvcConfigurer {
+
+    /**
+     * Replaces the default CBOR converter in place, which Spring builds without Boot's Jackson settings.
+     */
+    @Bean
+    MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Added last rather than as a bean: converter beans without a default counterpart are put first.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ExperimentProtobufHttpMessageConverter());
+    }
+}
@@ -0,0 +1,56 @@
+package com.epam.lab_experiment.config;
+
+import com.epam.lab_experiment.model.Experiment;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache of {@link Experiment} entities in an in-process Caffeine JCache.
+ * <p>
+ * The cache manager is created per application context rather than looked up from the shared
+ * {@link javax.cache.Caching} registry, so that contexts in the same JVM do not share regions.
+ * Its only cache is the entity region, sized from {@link ExperimentEntityCacheProperties}, and
+ * Hibernate fails to start instead of creating an unbounded region if it asks for another one.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "experiment.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ExperimentEntityCacheConfig {
+
+    /**
+     * Hibernate names an entity region after the entity class.
+     */
+    static final String EXPERIMENT_REGION = Experiment.class.getName();
+
+    @Bean(destroyMethod = "close")
+    CacheManager experimentEntityCacheManager(ExperimentEntityCacheProperties properties) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(properties.maximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(properties.ttl().toNanos()));
+
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(EXPERIMENT_REGION, configuration);
+        return cacheManager;
+    }
+
+    /**
+     * Explicitly configured cache settings take precedence.
+     */
+    @Bean
+    HibernatePropertiesCustomizer experimentEntityCacheCustomizer(CacheManager experimentEntityCacheManager) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, experimentEntityCacheManager);
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled     whether experiments are kept in the Hibernate second-level cache
+ * @param maximumSize maximum number of cached experiments
+ * @param ttl         time a cached experiment is served after it was loaded or written
+ */
+@ConfigurationProperties("experiment.entity-cache")
+public record ExperimentEntityCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration ttl
+) {
+}
@@ -0,0 +1,11 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param fetchSize rows fetched from the server-side cursor per round trip while exporting
+ */
+@ConfigurationProperties("experiment.export")
+public record ExperimentExportProperties(@DefaultValue("500") int fetchSize) {
+}
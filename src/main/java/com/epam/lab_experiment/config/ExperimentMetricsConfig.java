@@ -0,0 +1,46 @@
+package com.epam.lab_experiment.config;
+
+import com.epam.lab_experiment.repository.ExperimentStatementCounter;
+import com.epam.lab_experiment.web.ExperimentRequestMetricsFilter;
+import com.epam.lab_experiment.web.ExperimentServerRequestObservationConvention;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics of the {@code /experiments} endpoints: request latency by filter shape and Hibernate
+ * statements per request. Connection pool metrics come with the Actuator auto-configuration.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ExperimentMetricsConfig {
+
+    @Bean
+    ExperimentServerRequestObservationConvention experimentServerRequestObservationConvention() {
+        return new ExperimentServerRequestObservationConvention();
+    }
+
+    @Bean
+    ExperimentStatementCounter experimentStatementCounter() {
+        return new ExperimentStatementCounter();
+    }
+
+    /**
+     * An explicitly configured statement inspector takes precedence.
+     */
+    @Bean
+    HibernatePropertiesCustomizer experimentStatementCounterCustomizer(ExperimentStatementCounter counter) {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    @Bean
+    FilterRegistrationBean<ExperimentRequestMetricsFilter> experimentRequestMetricsFilter(
+            ExperimentStatementCounter counter, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ExperimentRequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new ExperimentRequestMetricsFilter(counter, meterRegistry));
+        registration.addUrlPatterns("/experiments", "/experiments/*");
+        return registration;
+    }
+}
@@ -0,0 +1,27 @@
+package com.epam.lab_experiment.config;
+
+import com.epam.lab_experiment.service.ExperimentPartitionMaintenance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Schedules {@code ExperimentPartitionMaintenance} at {@code experiment.partitioning.cron}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+@ConditionalOnProperty(name = "experiment.partitioning.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ExperimentPartitioningConfig implements SchedulingConfigurer {
+
+    private final ExperimentPartitionMaintenance maintenance;
+    private final ExperimentPartitioningProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addCronTask(maintenance::maintain, properties.cron());
+    }
+}
@@ -0,0 +1,20 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled           whether partition maintenance is scheduled
+ * @param cron              when partition maintenance runs
+ * @param yearsAhead        number of future years to keep partitions for
+ * @param archiveAfterYears age in years after which partitions without planned or ongoing
+ *                          experiments are archived; null to never archive
+ */
+@ConfigurationProperties("experiment.partitioning")
+public record ExperimentPartitioningProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0 0 3 * * *") String cron,
+        @DefaultValue("2") int yearsAhead,
+        Integer archiveAfterYears
+) {
+}
@@ -0,0 +1,21 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Fails startup when the {@code reactive} profile is active in a build without the reactive read
+ * path, which lives in the {@code reactive} source set and is only bundled with {@code -Preactive=true}.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("reactive")
+@ConditionalOnMissingClass("com.epam.lab_experiment.web.ReactiveExperimentServer")
+public class ExperimentReactiveMissingConfig {
+
+    ExperimentReactiveMissingConfig() {
+        throw new IllegalStateException(
+                "The reactive profile is active but the reactive read path is not on the classpath; "
+                        + "build with ./gradlew bootJar -Preactive=true");
+    }
+}
@@ -0,0 +1,35 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param enabled             whether read-only transactions are routed to the replicas
+ * @param replicas            streaming replicas of the primary {@code spring.datasource}
+ * @param healthCheckInterval how often replicas are probed; unhealthy ones are skipped
+ * @param maxLag              replay lag beyond which a replica counts as unhealthy
+ */
+@ConfigurationProperties("experiment.replica")
+public record ExperimentReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("5s") Duration maxLag
+) {
+
+    /**
+     * How long after a write a replica that passed its last health check may still miss it.
+     */
+    public Duration lagWindow() {
+        return enabled ? maxLag.plus(healthCheckInterval) : Duration.ZERO;
+    }
+
+    /**
+     * Username and password default to the primary's.
+     */
+    public record Replica(String url, String username, String password) {
+    }
+}
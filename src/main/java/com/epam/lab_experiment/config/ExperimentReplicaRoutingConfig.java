@@ -0,0 +1,144 @@
+package com.epam.lab_experiment.config;
+
+import com.epam.lab_experiment.repository.ExperimentReadYourWrites;
+import com.epam.lab_experiment.repository.ExperimentReplicaDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Routes read-only transactions to streaming replicas and everything else to the primary.
+ * <p>
+ * The {@link LazyConnectionDataSourceProxy} fetches the physical connection on the first statement,
+ * after the transaction manager has marked the connection read-only, and takes it from the replicas
+ * if so. A committed read-write transaction pins the rest of the request to the primary.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "experiment.replica.enabled", havingValue = "true")
+public class ExperimentReplicaRoutingConfig {
+
+    /**
+     * Declaring a DataSource switches off the auto-configured one, and with it the connection
+     * details derived from {@code spring.datasource}.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    JdbcConnectionDetails jdbcConnectionDetails(DataSourceProperties properties) {
+        return new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return properties.determineUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return properties.determinePassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return properties.determineUrl();
+            }
+        };
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(JdbcConnectionDetails connectionDetails) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(connectionDetails.getDriverClassName())
+                .url(connectionDetails.getJdbcUrl())
+                .username(connectionDetails.getUsername())
+                .password(connectionDetails.getPassword())
+                .build();
+    }
+
+    /**
+     * Replica pools copy the primary pool settings. They may be down at startup.
+     */
+    @Bean(destroyMethod = "close")
+    ExperimentReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                                  JdbcConnectionDetails connectionDetails,
+                                                  ExperimentReplicaProperties properties,
+                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        List<ExperimentReplicaProperties.Replica> replicas = properties.replicas();
+        List<HikariDataSource> pools = IntStream.range(0, replicas.size())
+                .mapToObj(index -> {
+                    ExperimentReplicaProperties.Replica replica = replicas.get(index);
+                    HikariConfig config = new HikariConfig();
+                    primaryDataSource.copyStateTo(config);
+                    config.setPoolName("replica-" + index);
+                    config.setJdbcUrl(replica.url());
+                    config.setUsername(replica.username() != null ? replica.username() : connectionDetails.getUsername());
+                    config.setPassword(replica.password() != null ? replica.password() : connectionDetails.getPassword());
+                    config.setReadOnly(true);
+                    config.setInitializationFailTimeout(-1);
+                    meterRegistry.ifAvailable(config::setMetricRegistry);
+                    return new HikariDataSource(config);
+                })
+                .toList();
+        return new ExperimentReplicaDataSource(primaryDataSource, pools, properties.healthCheckInterval(),
+                properties.maxLag());
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, ExperimentReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    TransactionExecutionListener experimentReadYourWritesListener() {
+        return new TransactionExecutionListener() {
+            @Override
+            public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+                if (commitFailure == null && !transaction.isReadOnly()) {
+                    ExperimentReadYourWrites.markWritten();
+                }
+            }
+        };
+    }
+
+    @Bean
+    FilterRegistrationBean<OncePerRequestFilter> experimentReadYourWritesFilter() {
+        return new FilterRegistrationBean<>(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    ExperimentReadYourWrites.clear();
+                }
+            }
+        });
+    }
+}
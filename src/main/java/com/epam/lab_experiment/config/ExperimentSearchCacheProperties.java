@@ -0,0 +1,17 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param maximumSize maximum number of cached result pages
+ * @param ttl         time a cached page is served after it was loaded
+ */
+@ConfigurationProperties("experiment.search-cache")
+public record ExperimentSearchCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("30s") Duration ttl
+) {
+}
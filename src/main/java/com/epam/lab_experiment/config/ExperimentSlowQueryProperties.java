@@ -0,0 +1,15 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param threshold queries taking at least this long are logged with their filter shape
+ */
+@ConfigurationProperties("experiment.slow-query")
+public record ExperimentSlowQueryProperties(
+        @DefaultValue("500ms") Duration threshold
+) {
+}
@@ -0,0 +1,8 @@
+package com.epam.lab_experiment.exception;
+
+public class ExperimentImportException extends RuntimeException {
+
+    public ExperimentImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
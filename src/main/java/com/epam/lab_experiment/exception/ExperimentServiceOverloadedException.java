@@ -0,0 +1,12 @@
+package com.epam.lab_experiment.exception;
+
+import java.time.Duration;
+
+public class ExperimentServiceOverloadedException extends RuntimeException {
+
+    private static final String MESSAGE_TEMPLATE = "Too many concurrent requests, no capacity within %d ms";
+
+    public ExperimentServiceOverloadedException(Duration waited) {
+        super(MESSAGE_TEMPLATE.formatted(waited.toMillis()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.epam.lab_experiment.exception;
+
+public class ExperimentVersionConflictException extends RuntimeException {
+
+    private static final String MESSAGE_TEMPLATE = "Experiment has been modified concurrently. ID = %d, expected version = %d";
+
+    public ExperimentVersionConflictException(long id, long expectedVersion) {
+        super(MESSAGE_TEMPLATE.formatted(id, expectedVersion));
+    }
+}
@@ -0,0 +1,32 @@
+package com.epam.lab_experiment.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult(
+        int index,
+        Status status,
+        Long id,
+        Map<String, String> errors
+) {
+
+    public enum Status {
+        CREATED,
+        REJECTED,
+        FAILED
+    }
+
+    public static BatchItemResult created(int index, long id) {
+        return new BatchItemResult(index, Status.CREATED, id, null);
+    }
+
+    public static BatchItemResult rejected(int index, Map<String, String> errors) {
+        return new BatchItemResult(index, Status.REJECTED, null, errors);
+    }
+
+    public static BatchItemResult failed(int index, String message) {
+        return new BatchItemResult(index, Status.FAILED, null, Map.of("message", message));
+    }
+}
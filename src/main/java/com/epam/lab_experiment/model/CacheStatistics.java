@@ -0,0 +1,10 @@
+package com.epam.lab_experiment.model;
+
+public record CacheStatistics(
+        long hits,
+        long misses,
+        double hitRate,
+        long evictions,
+        long size
+) {
+}
@@ -0,0 +1,15 @@
+package com.epam.lab_experiment.model;
+
+/**
+ * How {@code totalElements} of a list response is produced.
+ */
+public enum CountStrategy {
+    /** count(*) with the full filter predicate */
+    EXACT,
+    /** planner row estimate of the filtered query */
+    ESTIMATED,
+    /** exact count memoized per filter for a short time */
+    CACHED,
+    /** no total, only whether a next page exists */
+    NONE
+}
@@ -1,5 +1,6 @@
 package com.epam.lab_experiment.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,7 +8,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @AllArgsConstructor
@@ -15,9 +19,12 @@ import java.time.LocalDate;
 @Data
 @Builder
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Experiment {
         @Id
-        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "experiment_seq")
+        @SequenceGenerator(name = "experiment_seq", sequenceName = "experiment_seq", allocationSize = 50)
         private Long id;
         @NotBlank(message = "Title is not provided")
         private String title;
@@ -31,4 +38,9 @@ public class Experiment {
         @NotBlank(message = "Category is not provided")
         private String category;
         private LocalDate startDate;
+        @Version
+        @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+        private long version;
+        @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+        private Instant updatedAt;
 }
@@ -0,0 +1,13 @@
+package com.epam.lab_experiment.model;
+
+import java.time.Instant;
+
+/**
+ * @param revision  incremented by every committed transaction that writes experiments
+ * @param changedAt commit time of the last such transaction, in commit order
+ */
+public record ExperimentChangeMarker(
+        long revision,
+        Instant changedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.epam.lab_experiment.model;
+
+import java.util.Map;
+
+/**
+ * Number of experiments per facet value, most frequent values first.
+ *
+ * @param total number of experiments the facets were counted over
+ */
+public record ExperimentFacets(
+        long total,
+        Map<String, Long> status,
+        Map<String, Long> category,
+        Map<String, Long> method
+) {
+}
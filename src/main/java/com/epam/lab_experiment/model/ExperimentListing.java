@@ -0,0 +1,11 @@
+package com.epam.lab_experiment.model;
+
+/**
+ * Rows of a list request with the change marker read before them, in the same transaction, so
+ * the marker never claims changes the rows do not contain.
+ */
+public record ExperimentListing<T>(
+        T content,
+        ExperimentChangeMarker marker
+) {
+}
@@ -0,0 +1,22 @@
+package com.epam.lab_experiment.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a CSV import. {@code rejectedRows} lists at most the first rejections, in file order;
+ * {@code rejected} is the full count.
+ */
+public record ImportReport(
+        long imported,
+        long rejected,
+        List<RejectedRow> rejectedRows
+) {
+
+    /**
+     * @param row    1-based data row number, not counting the header line
+     * @param errors validation messages by property name
+     */
+    public record RejectedRow(long row, Map<String, String> errors) {
+    }
+}
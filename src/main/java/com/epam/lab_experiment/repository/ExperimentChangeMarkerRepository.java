@@ -0,0 +1,38 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.model.ExperimentChangeMarker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Table-level change marker of {@code experiment}, bumped by a deferred trigger when a writing
+ * transaction commits.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExperimentChangeMarkerRepository {
+
+    private static final String FIND = "SELECT revision, changed_at FROM experiment_change_marker";
+
+    private static final String TOUCH = """
+            UPDATE experiment_change_marker
+            SET revision = revision + 1, changed_at = greatest(changed_at, clock_timestamp())
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExperimentChangeMarker find() {
+        return jdbcTemplate.queryForObject(FIND, (rs, rowNum) ->
+                new ExperimentChangeMarker(rs.getLong(1), rs.getObject(2, OffsetDateTime.class).toInstant()));
+    }
+
+    /**
+     * Bumps the marker for changes the trigger does not see, such as detached partitions.
+     */
+    public void touch() {
+        jdbcTemplate.update(TOUCH);
+    }
+}
@@ -0,0 +1,36 @@
+package com.epam.lab_experiment.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Row count estimates taken from the query planner instead of scanning the matching rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExperimentCountRepository {
+
+    private static final String EXPLAIN = "EXPLAIN (FORMAT JSON) SELECT 1 FROM experiment WHERE ";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Planner estimate of the number of experiments matching the filter. Only as accurate as the
+     * table statistics gathered by the last {@code ANALYZE}.
+     */
+    public long estimateCount(ExperimentSqlFilter filter) {
+        String plan = namedParameterJdbcTemplate.queryForObject(
+                EXPLAIN + filter.where(), filter.parameters(), String.class);
+        try {
+            JsonNode root = objectMapper.readTree(plan);
+            return Math.max(0, root.path(0).path("Plan").path("Plan Rows").asLong());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unexpected query plan: " + plan, ex);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.model.ExperimentFacets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Facet counts of experiments, either aggregated over the filtered rows in a single
+ * {@code GROUPING SETS} query or read from the trigger-maintained {@code experiment_facet_count}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExperimentFacetRepository {
+
+    private static final String STATUS = "status";
+    private static final String CATEGORY = "category";
+    private static final String METHOD = "method";
+
+    /**
+     * The empty grouping set yields the total, with a null facet.
+     */
+    private static final String COUNT_FILTERED = """
+            SELECT CASE
+                       WHEN GROUPING(status) = 0 THEN 'status'
+                       WHEN GROUPING(category) = 0 THEN 'category'
+                       WHEN GROUPING(method) = 0 THEN 'method'
+                   END AS facet,
+                   coalesce(status, category, method) AS value,
+                   count(*) AS count
+            FROM experiment
+            WHERE %s
+            GROUP BY GROUPING SETS ((status), (category), (method), ())
+            ORDER BY facet, count DESC, value
+            """;
+
+    private static final String COUNT_ALL = """
+            SELECT facet, value, count
+            FROM experiment_facet_count
+            WHERE count > 0
+            ORDER BY facet, count DESC, value
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ExperimentFacets count(ExperimentSqlFilter filter) {
+        if (filter.isEmpty()) {
+            return namedParameterJdbcTemplate.query(COUNT_ALL, facetsExtractor());
+        }
+        return namedParameterJdbcTemplate.query(
+                COUNT_FILTERED.formatted(filter.where()), filter.parameters(), facetsExtractor());
+    }
+
+    private static ResultSetExtractor<ExperimentFacets> facetsExtractor() {
+        return rs -> {
+            Map<String, Map<String, Long>> facets = Map.of(
+                    STATUS, new LinkedHashMap<>(),
+                    CATEGORY, new LinkedHashMap<>(),
+                    METHOD, new LinkedHashMap<>()
+            );
+            Long total = null;
+            while (rs.next()) {
+                String facet = rs.getString("facet");
+                if (facet == null) {
+                    total = rs.getLong("count");
+                } else {
+                    facets.get(facet).put(rs.getString("value"), rs.getLong("count"));
+                }
+            }
+            return new ExperimentFacets(
+                    total != null ? total : facets.get(STATUS).values().stream().mapToLong(Long::longValue).sum(),
+                    facets.get(STATUS),
+                    facets.get(CATEGORY),
+                    facets.get(METHOD)
+            );
+        };
+    }
+}
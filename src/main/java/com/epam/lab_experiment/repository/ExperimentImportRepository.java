@@ -0,0 +1,150 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.exception.ExperimentImportException;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import com.epam.lab_experiment.model.ImportReport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk import of experiments through PostgreSQL {@code COPY}. The CSV is streamed into a
+ * transaction-scoped staging table, validated and merged into {@code experiment} with set-based
+ * statements. All methods must run inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExperimentImportRepository {
+
+    /**
+     * Staging columns are named after the export header, so exported files can be imported back.
+     * Everything is text so that malformed values are reported instead of aborting the COPY.
+     */
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMP TABLE experiment_import (
+                line bigint GENERATED ALWAYS AS IDENTITY,
+                id text,
+                title text,
+                "leadResearcher" text,
+                method text,
+                status text,
+                category text,
+                "startDate" text,
+                errors jsonb
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY = """
+            COPY experiment_import (id, title, "leadResearcher", method, status, category, "startDate")
+            FROM STDIN WITH (FORMAT csv, HEADER MATCH)
+            """;
+
+    private static final String VALIDATE = """
+            UPDATE experiment_import SET errors = jsonb_strip_nulls(jsonb_build_object(
+                'title', CASE
+                    WHEN title IS NULL OR title !~ '\\S' THEN :title
+                    WHEN length(title) > 255 THEN 'Title is longer than 255 characters' END,
+                'leadResearcher', CASE
+                    WHEN "leadResearcher" IS NULL OR "leadResearcher" !~ '\\S' THEN :leadResearcher
+                    WHEN length("leadResearcher") > 100 THEN 'Lead Researcher is longer than 100 characters' END,
+                'method', CASE
+                    WHEN method IS NULL OR method !~ '\\S' THEN :method
+                    WHEN length(method) > 50 THEN 'Method is longer than 50 characters' END,
+                'status', CASE
+                    WHEN status IS NULL THEN :status
+                    WHEN status NOT IN (:statuses) THEN 'Experiment status is not valid' END,
+                'category', CASE
+                    WHEN category IS NULL OR category !~ '\\S' THEN :category
+                    WHEN length(category) > 30 THEN 'Category is longer than 30 characters' END,
+                'startDate', CASE
+                    WHEN NOT pg_input_is_valid("startDate", 'date') THEN 'Start date is not a valid date' END
+            ))
+            """;
+
+    /**
+     * Ids come from the column default, one sequence value per row.
+     */
+    private static final String MERGE = """
+            INSERT INTO experiment (title, lead_researcher, method, status, category, start_date)
+            SELECT title, "leadResearcher", method, status, category, "startDate"::date
+            FROM experiment_import
+            WHERE errors = '{}'
+            ORDER BY line
+            """;
+
+    private static final String COUNT_REJECTED = "SELECT count(*) FROM experiment_import WHERE errors <> '{}'";
+
+    private static final String FIND_REJECTED = """
+            SELECT line, errors::text FROM experiment_import
+            WHERE errors <> '{}'
+            ORDER BY line
+            LIMIT ?
+            """;
+
+    private static final String DATA_EXCEPTION_CLASS = "22";
+
+    private static final TypeReference<Map<String, String>> ERRORS_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param csv              CSV with the export header line
+     * @param requiredMessages messages of the required-field constraints, by property name
+     * @param maxReported      maximum number of rejected rows listed in the report
+     */
+    public ImportReport importCsv(InputStream csv, Map<String, String> requiredMessages, int maxReported) {
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+        copy(csv);
+
+        namedParameterJdbcTemplate.update(VALIDATE, new MapSqlParameterSource(requiredMessages)
+                .addValue("statuses", Arrays.stream(ExperimentStatus.values()).map(Enum::name).toList()));
+
+        long imported = jdbcTemplate.update(MERGE);
+        Long rejected = jdbcTemplate.queryForObject(COUNT_REJECTED, Long.class);
+        List<ImportReport.RejectedRow> rejectedRows = jdbcTemplate.query(FIND_REJECTED,
+                (rs, rowNum) -> new ImportReport.RejectedRow(rs.getLong(1), parseErrors(rs.getString(2))),
+                maxReported);
+
+        return new ImportReport(imported, rejected == null ? 0 : rejected, rejectedRows);
+    }
+
+    private void copy(InputStream csv) {
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY, csv);
+            } catch (SQLException ex) {
+                if (ex.getSQLState() != null && ex.getSQLState().startsWith(DATA_EXCEPTION_CLASS)) {
+                    throw new ExperimentImportException(ex.getMessage(), ex);
+                }
+                throw ex;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private Map<String, String> parseErrors(String json) {
+        try {
+            return objectMapper.readValue(json, ERRORS_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unexpected import errors value: " + json, ex);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.epam.lab_experiment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Maintenance of the yearly {@code start_date} partitions of {@code experiment}, delegating to the
+ * functions of the {@code experiment-partitioning} changeset. Every call runs in its own
+ * transaction and takes short exclusive locks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExperimentPartitionRepository {
+
+    private static final String FIND_PARTITION_YEARS = """
+            SELECT substring(c.relname FROM 13)::int
+            FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'experiment'::regclass AND c.relname ~ '^experiment_y[0-9]{4}$'
+            ORDER BY 1
+            """;
+
+    private static final String FIND_DEFAULT_PARTITION_YEARS = """
+            SELECT DISTINCT extract(year FROM start_date)::int
+            FROM experiment_default
+            WHERE start_date IS NOT NULL
+            ORDER BY 1
+            """;
+
+    private static final String LOCK_KEY = "experiment_partition_maintenance";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Runs {@code maintenance} unless another instance is running it. The session advisory lock is
+     * held on a connection of its own, so the maintenance calls still run in their own transactions.
+     *
+     * @return false if another instance holds the lock
+     */
+    public boolean runExclusively(Runnable maintenance) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement lock = connection.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))")) {
+                lock.setString(1, LOCK_KEY);
+                try (ResultSet resultSet = lock.executeQuery()) {
+                    if (!resultSet.next() || !resultSet.getBoolean(1)) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                maintenance.run();
+                return true;
+            } finally {
+                try (PreparedStatement unlock = connection.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))")) {
+                    unlock.setString(1, LOCK_KEY);
+                    unlock.execute();
+                }
+            }
+        }));
+    }
+
+    public List<Integer> findPartitionYears() {
+        return jdbcTemplate.queryForList(FIND_PARTITION_YEARS, Integer.class);
+    }
+
+    /**
+     * Years with dated rows that landed in the default partition for lack of a partition.
+     */
+    public List<Integer> findDefaultPartitionYears() {
+        return jdbcTemplate.queryForList(FIND_DEFAULT_PARTITION_YEARS, Integer.class);
+    }
+
+    /**
+     * Creates the partition of {@code year}, moving its rows out of the default partition.
+     *
+     * @return false if it already existed
+     */
+    public boolean createPartition(int year) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT experiment_create_partition(?)", Boolean.class, year));
+    }
+
+    /**
+     * Detaches the partition of {@code year} into the {@code experiment_archive} schema and
+     * subtracts its rows from the facet counts, unless it holds planned or ongoing experiments.
+     *
+     * @return false if the partition does not exist or is still active
+     */
+    public boolean archivePartition(int year) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT experiment_archive_partition(?)", Boolean.class, year));
+    }
+}
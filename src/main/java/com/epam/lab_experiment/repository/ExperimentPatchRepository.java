@@ -0,0 +1,64 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.model.Experiment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Partial updates of experiments in a single statement, without reading the row first.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExperimentPatchRepository {
+
+    /**
+     * Null parameters keep the current value, so the statement text is the same for every patch.
+     */
+    private static final String PATCH = """
+            UPDATE experiment SET
+                title = coalesce(:title, title),
+                lead_researcher = coalesce(:leadResearcher, lead_researcher),
+                method = coalesce(:method, method),
+                status = coalesce(:status, status),
+                category = coalesce(:category, category),
+                start_date = coalesce(:startDate, start_date),
+                version = version + 1,
+                updated_at = :updatedAt
+            WHERE id = :id AND (CAST(:version AS bigint) IS NULL OR version = :version)
+            RETURNING id, title, lead_researcher, method, status, category, start_date, version, updated_at
+            """;
+
+    private static final RowMapper<Experiment> ROW_MAPPER = new BeanPropertyRowMapper<>(Experiment.class);
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Sets the non-null fields of {@code changes}, increments the version and sets {@code updatedAt}.
+     *
+     * @param expectedVersion version the experiment must have, or null to update any version
+     * @return the updated experiment, empty if no experiment with the id and version exists
+     */
+    public Optional<Experiment> patch(long id, Experiment changes, Long expectedVersion, Instant updatedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("version", expectedVersion, Types.BIGINT)
+                .addValue("updatedAt", updatedAt.atOffset(ZoneOffset.UTC))
+                .addValue("title", changes.getTitle())
+                .addValue("leadResearcher", changes.getLeadResearcher())
+                .addValue("method", changes.getMethod())
+                .addValue("status", changes.getStatus() == null ? null : changes.getStatus().name())
+                .addValue("category", changes.getCategory())
+                .addValue("startDate", changes.getStartDate(), Types.DATE);
+
+        return namedParameterJdbcTemplate.query(PATCH, parameters, ROW_MAPPER).stream().findFirst();
+    }
+}
@@ -0,0 +1,43 @@
+package com.epam.lab_experiment.repository;
+
+import java.util.function.Supplier;
+
+/**
+ * Remembers that the current thread has committed a write, so that its later read-only
+ * transactions are served by the primary instead of a replica that may not have caught up yet.
+ * Cleared at the end of every request.
+ */
+public final class ExperimentReadYourWrites {
+
+    private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
+
+    private ExperimentReadYourWrites() {
+    }
+
+    public static void markWritten() {
+        WRITTEN.set(Boolean.TRUE);
+    }
+
+    public static boolean hasWritten() {
+        return WRITTEN.get() != null;
+    }
+
+    /**
+     * Runs {@code reads} on the primary, as if the current thread had written.
+     */
+    public static <T> T onPrimary(Supplier<T> reads) {
+        boolean written = hasWritten();
+        markWritten();
+        try {
+            return reads.get();
+        } finally {
+            if (!written) {
+                clear();
+            }
+        }
+    }
+
+    public static void clear() {
+        WRITTEN.remove();
+    }
+}
@@ -0,0 +1,121 @@
+package com.epam.lab_experiment.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out replica connections round-robin, skipping replicas that failed their last health
+ * check or connection attempt. A replica fails its health check when it is unreachable or has
+ * fallen more than the maximum lag behind the primary. Falls back to the primary when no replica is healthy and after
+ * the current thread has written (see {@link ExperimentReadYourWrites}).
+ */
+public class ExperimentReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /**
+     * Replay lag in milliseconds: 0 when everything received has been replayed, since an idle
+     * primary sends nothing newer to replay; null when nothing was replayed yet.
+     */
+    private static final String LAG = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE extract(epoch FROM clock_timestamp() - pg_last_xact_replay_timestamp()) * 1000
+            END
+            """;
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final Set<HikariDataSource> unhealthy = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecks;
+    private final Duration maxLag;
+
+    public ExperimentReplicaDataSource(DataSource primary, List<HikariDataSource> replicas, Duration healthCheckInterval,
+                                       Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "experiment-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecks.scheduleWithFixedDelay(this::checkHealth,
+                0, healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!ExperimentReadYourWrites.hasWritten()) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                HikariDataSource replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+                if (unhealthy.contains(replica)) {
+                    continue;
+                }
+                try {
+                    return replica.getConnection();
+                } catch (SQLException ex) {
+                    unhealthy.add(replica);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * The replica pools, like the primary one, connect with the credentials they were configured with.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the credentials configured under "
+                + "experiment.replica.replicas, or the primary's; per-call credentials are not supported");
+    }
+
+    void checkHealth() {
+        for (HikariDataSource replica : replicas) {
+            if (isCaughtUp(replica)) {
+                unhealthy.remove(replica);
+            } else {
+                unhealthy.add(replica);
+            }
+        }
+    }
+
+    private boolean isCaughtUp(HikariDataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(LAG)) {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                double lagMillis = resultSet.getDouble(1);
+                return !resultSet.wasNull() && lagMillis <= maxLag.toMillis();
+            }
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecks.shutdownNow();
+        replicas.forEach(HikariDataSource::close);
+    }
+}
@@ -2,13 +2,46 @@ package com.epam.lab_experiment.repository;
 
 
 import com.epam.lab_experiment.model.Experiment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ExperimentRepository extends CrudRepository<Experiment, Long>,
         PagingAndSortingRepository<Experiment, Long>,
-        JpaSpecificationExecutor<Experiment> {
+        JpaSpecificationExecutor<Experiment>,
+        ExperimentRepositoryCustom {
+
+    /**
+     * Pages of experiments bypass the second-level cache, which holds experiments read by id.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    Page<Experiment> findAll(Specification<Experiment> spec, Pageable pageable);
+
+    /**
+     * Full-text search over the generated {@code search_vector} column, best matches first.
+     * The pageable must be unsorted, ordering is defined by the rank.
+     */
+    @Query(value = """
+            SELECT e.* FROM experiment e
+            WHERE e.search_vector @@ websearch_to_tsquery('english', :query)
+            ORDER BY ts_rank(e.search_vector, websearch_to_tsquery('english', :query)) DESC, e.id DESC
+            """,
+            countQuery = """
+            SELECT count(*) FROM experiment e
+            WHERE e.search_vector @@ websearch_to_tsquery('english', :query)
+            """,
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    Page<Experiment> search(@Param("query") String query, Pageable pageable);
 }
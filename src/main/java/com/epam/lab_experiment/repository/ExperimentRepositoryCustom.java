@@ -0,0 +1,47 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.model.Experiment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface ExperimentRepositoryCustom {
+
+    /**
+     * Streams matching experiments from a server-side cursor, {@code fetchSize} rows per round trip.
+     * Must be consumed inside a transaction and closed afterwards. Bypasses the second-level cache.
+     */
+    Stream<Experiment> stream(Specification<Experiment> spec, Sort sort, int fetchSize);
+
+    /**
+     * Loads one page of matching experiments without counting them. Reads a single extra row
+     * to tell whether a next page exists. Bypasses the second-level cache.
+     */
+    Slice<Experiment> findSlice(Specification<Experiment> spec, Pageable pageable);
+
+    /**
+     * Like {@link #findSlice(Specification, Pageable)}, but selects only the given properties into
+     * tuples instead of managed entities. Rows keep the order of {@code fields}.
+     */
+    Slice<Map<String, Object>> findSlice(Specification<Experiment> spec, List<String> fields, Pageable pageable);
+
+    /**
+     * Deletes without loading the experiment first. Runs as plain SQL, since a JPQL bulk delete
+     * evicts every cached experiment; lock the cached one until the commit instead.
+     *
+     * @return number of deleted rows
+     */
+    int removeById(long id);
+
+    /**
+     * Like {@link #removeById(long)}, but only if the experiment still has the given version.
+     *
+     * @return number of deleted rows
+     */
+    int removeByIdAndVersion(long id, long version);
+}
@@ -0,0 +1,97 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.model.Experiment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+class ExperimentRepositoryCustomImpl implements ExperimentRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Stream<Experiment> stream(Specification<Experiment> spec, Sort sort, int fetchSize) {
+        return query(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultStream();
+    }
+
+    @Override
+    public Slice<Experiment> findSlice(Specification<Experiment> spec, Pageable pageable) {
+        return slice(query(spec, pageable.getSort()).setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE), pageable);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findSlice(Specification<Experiment> spec, List<String> fields, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Experiment> root = query.from(Experiment.class);
+        query.multiselect(fields.stream()
+                .<Selection<?>>map(field -> root.get(field).alias(field))
+                .toList());
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        return slice(entityManager.createQuery(query), pageable).map(ExperimentRepositoryCustomImpl::toMap);
+    }
+
+    @Override
+    public int removeById(long id) {
+        return jdbcTemplate.update("DELETE FROM experiment WHERE id = ?", id);
+    }
+
+    @Override
+    public int removeByIdAndVersion(long id, long version) {
+        return jdbcTemplate.update("DELETE FROM experiment WHERE id = ? AND version = ?", id, version);
+    }
+
+    private static <T> Slice<T> slice(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+
+        List<T> content = query
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        tuple.getElements().forEach(element -> row.put(element.getAlias(), tuple.get(element)));
+        return row;
+    }
+
+    private TypedQuery<Experiment> query(Specification<Experiment> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Experiment> query = criteriaBuilder.createQuery(Experiment.class);
+        Root<Experiment> root = query.from(Experiment.class);
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return entityManager.createQuery(query);
+    }
+}
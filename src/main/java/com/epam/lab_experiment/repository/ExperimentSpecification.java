@@ -4,18 +4,68 @@ import com.epam.lab_experiment.model.Experiment;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 public final class ExperimentSpecification {
 
+    public static final String ID = "id";
     public static final String TITLE = "title";
     public static final String CATEGORY = "category";
     public static final String METHOD = "method";
     public static final String LEAD_RESEARCHER = "leadResearcher";
     public static final String STATUS = "status";
     public static final String START_DATE = "startDate";
+    public static final String VERSION = "version";
+    public static final String UPDATED_AT = "updatedAt";
+
+    /**
+     * Properties a keyset (cursor) scroll may be sorted by. Seek predicates cannot compare
+     * against NULL, so the nullable {@code startDate} is excluded.
+     */
+    public static final Set<String> KEYSET_PROPERTIES = Set.of(ID, TITLE, CATEGORY, METHOD, LEAD_RESEARCHER, STATUS);
+
+    /**
+     * Properties {@link #build} filters by, in the order they appear in a {@link #shape}.
+     */
+    public static final List<String> FILTER_PROPERTIES = List.of(TITLE, CATEGORY, METHOD, LEAD_RESEARCHER, STATUS, START_DATE);
+
+    /**
+     * Properties a sparse fieldset ({@code fields=}) may select.
+     */
+    public static final Set<String> FIELD_PROPERTIES =
+            Set.of(ID, TITLE, CATEGORY, METHOD, LEAD_RESEARCHER, STATUS, START_DATE, VERSION, UPDATED_AT);
+
+    private static final String NO_FILTER = "none";
 
     private ExperimentSpecification() {
     }
 
+    /**
+     * Names of the filters set on {@code e} joined by {@code +}, or {@code none}. Filter values
+     * are left out, so there are at most 64 shapes and they are safe to use as metric tags.
+     */
+    public static String shape(Experiment e) {
+        return shape(property -> switch (property) {
+            case TITLE -> e.getTitle() != null;
+            case CATEGORY -> e.getCategory() != null;
+            case METHOD -> e.getMethod() != null;
+            case LEAD_RESEARCHER -> e.getLeadResearcher() != null;
+            case STATUS -> e.getStatus() != null;
+            case START_DATE -> e.getStartDate() != null;
+            default -> false;
+        });
+    }
+
+    public static String shape(java.util.function.Predicate<String> present) {
+        String shape = FILTER_PROPERTIES.stream()
+                .filter(present)
+                .collect(Collectors.joining("+"));
+        return shape.isEmpty() ? NO_FILTER : shape;
+    }
+
     public static Specification<Experiment> build(Experiment e) {
         return (root, query, criteriaBuilder) -> {
             Predicate predicate = criteriaBuilder.conjunction();
@@ -48,7 +98,11 @@ public final class ExperimentSpecification {
         };
     }
 
-    private static String likePattern(String str) {
-        return "%" + str.toLowerCase() + "%";
+    /**
+     * Substring filters are rendered as {@code lower(col) LIKE '%x%'} so that they match the
+     * {@code lower(col) gin_trgm_ops} indexes expression for expression.
+     */
+    static String likePattern(String str) {
+        return "%" + str.toLowerCase(Locale.ROOT) + "%";
     }
 }
@@ -0,0 +1,63 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.model.Experiment;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * The filters of {@link ExperimentSpecification} rendered as a plain SQL condition over the
+ * {@code experiment} table with named parameters, for queries that bypass JPA. Both must
+ * stay semantically identical.
+ *
+ * @param where      condition, {@code TRUE} when no filter is set
+ * @param parameters values of the named parameters used in {@code where}
+ */
+public record ExperimentSqlFilter(String where, Map<String, Object> parameters) {
+
+    public static ExperimentSqlFilter of(Experiment e) {
+        StringJoiner where = new StringJoiner(" AND ");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (e.getTitle() != null) {
+            where.add("lower(title) LIKE :title");
+            parameters.put("title", ExperimentSpecification.likePattern(e.getTitle()));
+        }
+
+        if (e.getCategory() != null) {
+            where.add("category = :category");
+            parameters.put("category", e.getCategory());
+        }
+
+        if (e.getMethod() != null) {
+            where.add("method = :method");
+            parameters.put("method", e.getMethod());
+        }
+
+        if (e.getLeadResearcher() != null) {
+            where.add("lower(lead_researcher) LIKE :leadResearcher");
+            parameters.put("leadResearcher", ExperimentSpecification.likePattern(e.getLeadResearcher()));
+        }
+
+        if (e.getStatus() != null) {
+            where.add("status = :status");
+            parameters.put("status", e.getStatus().name());
+        }
+
+        if (e.getStartDate() != null) {
+            where.add("start_date >= :startDate");
+            parameters.put("startDate", e.getStartDate());
+        }
+
+        return new ExperimentSqlFilter(
+                parameters.isEmpty() ? "TRUE" : where.toString(),
+                Collections.unmodifiableMap(parameters)
+        );
+    }
+
+    public boolean isEmpty() {
+        return parameters.isEmpty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.epam.lab_experiment.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the statements Hibernate prepares on the current thread between {@link #start} and
+ * {@link #stop}. Statements issued through {@code JdbcTemplate} bypass Hibernate and are not counted.
+ */
+public class ExperimentStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    /**
+     * @return statements counted since {@link #start}, or 0 if counting was not started
+     */
+    public int stop() {
+        int[] current = count.get();
+        count.remove();
+        return current == null ? 0 : current[0];
+    }
+}
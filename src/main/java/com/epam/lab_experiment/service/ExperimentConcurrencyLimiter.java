@@ -0,0 +1,37 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.exception.ExperimentServiceOverloadedException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits at most a fixed number of concurrent calls, waiting in FIFO order for a bounded time.
+ * Sized to the connection pool it keeps excess requests parked here, where they hold no
+ * connection and time out with a clear error, instead of queueing inside the pool.
+ */
+public class ExperimentConcurrencyLimiter implements MethodInterceptor {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public ExperimentConcurrencyLimiter(int permits, Duration acquireTimeout) {
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new ExperimentServiceOverloadedException(acquireTimeout);
+        }
+        try {
+            return invocation.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+}
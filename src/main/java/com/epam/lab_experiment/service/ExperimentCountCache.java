@@ -0,0 +1,30 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.config.ExperimentCountCacheProperties;
+import com.epam.lab_experiment.repository.ExperimentSqlFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Exact counts memoized per filter for a short TTL. Unlike {@link ExperimentSearchCache} it is not
+ * invalidated by writes: a count may lag behind by up to the TTL, which is what callers opt into.
+ */
+@Component
+public class ExperimentCountCache {
+
+    private final Cache<ExperimentSqlFilter, Long> cache;
+
+    public ExperimentCountCache(ExperimentCountCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    public long get(ExperimentSqlFilter filter, LongSupplier counter) {
+        return cache.get(filter, key -> counter.getAsLong());
+    }
+}
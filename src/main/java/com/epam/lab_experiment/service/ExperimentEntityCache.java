@@ -0,0 +1,58 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.model.Experiment;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the second-level cache of experiments consistent with writes that bypass Hibernate.
+ * Entity writes through Hibernate maintain the cache themselves; JPQL bulk statements evict the
+ * whole region, which is why single-row deletes go through SQL and lock only their experiment.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExperimentEntityCache {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Soft-locks the cached experiment until the current transaction completes, as Hibernate does
+     * for its own updates: reads in between go to the database, and reads that started before the
+     * commit cannot put the old state back afterwards. Call before the experiment is written.
+     * <p>
+     * The entry is evicted first so that the lock carries no version: locking a cached experiment
+     * would keep its version in the lock, and since these writes never put the new state, a later
+     * write would leave that older version behind and let reads of an intermediate version back in.
+     */
+    public void lockUntilCompletion(long id) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Experiment.class);
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        Object key = access.generateCacheKey(id, persister, session.getFactory(), session.getTenantIdentifier());
+        access.evict(key);
+        SoftLock lock = access.lockItem(session, key, null);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                access.unlockItem(session, key, lock);
+            }
+        });
+    }
+
+    /**
+     * For writes that affect experiments not known by id.
+     */
+    public void evictAll() {
+        entityManager.getEntityManagerFactory().getCache().evict(Experiment.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.config.ExperimentPartitioningProperties;
+import com.epam.lab_experiment.repository.ExperimentChangeMarkerRepository;
+import com.epam.lab_experiment.repository.ExperimentPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * Keeps the yearly {@code start_date} partitions in shape: creates partitions for the coming years
+ * and for past years whose rows sit in the default partition. When
+ * {@code experiment.partitioning.archive-after-years} is set, it also archives partitions older than
+ * that once all their experiments are completed or cancelled. Archived experiments disappear from the
+ * API, so cached search pages and experiments are invalidated and the change marker is bumped.
+ * <p>
+ * Only one instance runs the maintenance at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExperimentPartitionMaintenance {
+
+    private final ExperimentPartitionRepository partitionRepository;
+    private final ExperimentChangeMarkerRepository changeMarkerRepository;
+    private final ExperimentSearchCache searchCache;
+    private final ExperimentEntityCache entityCache;
+    private final ExperimentPartitioningProperties properties;
+
+    public void maintain() {
+        maintain(Year.now().getValue());
+    }
+
+    void maintain(int currentYear) {
+        if (!partitionRepository.runExclusively(() -> maintainPartitions(currentYear))) {
+            log.info("Skipping experiment partition maintenance, another instance is running it");
+        }
+    }
+
+    private void maintainPartitions(int currentYear) {
+        TreeSet<Integer> years = new TreeSet<>(partitionRepository.findDefaultPartitionYears());
+        IntStream.rangeClosed(currentYear, currentYear + properties.yearsAhead()).forEach(years::add);
+        List<Integer> created = new ArrayList<>();
+        for (int year : years) {
+            if (partitionRepository.createPartition(year)) {
+                created.add(year);
+            }
+        }
+
+        List<Integer> archived = new ArrayList<>();
+        if (properties.archiveAfterYears() != null) {
+            for (int year : partitionRepository.findPartitionYears()) {
+                if (year < currentYear - properties.archiveAfterYears() && partitionRepository.archivePartition(year)) {
+                    archived.add(year);
+                }
+            }
+        }
+        if (!archived.isEmpty()) {
+            changeMarkerRepository.touch();
+            searchCache.invalidate();
+            entityCache.evictAll();
+        }
+        log.info("Experiment partitions created: {}, archived: {}", created, archived);
+    }
+}
@@ -0,0 +1,146 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.config.ExperimentReplicaProperties;
+import com.epam.lab_experiment.config.ExperimentSearchCacheProperties;
+import com.epam.lab_experiment.model.CacheStatistics;
+import com.epam.lab_experiment.model.CountStrategy;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import com.epam.lab_experiment.repository.ExperimentReadYourWrites;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Size and TTL bounded cache of search result pages, stored as their loader returns them, such as
+ * together with the change marker they were read at.
+ * <p>
+ * Keys carry a generation number that every committed write increments. A page loaded
+ * concurrently with a write can only be stored under the generation read before the write
+ * finished, so once a write has completed no request can be served a page that predates it.
+ * <p>
+ * With read replicas, pages missed within the replica lag window after an invalidation are loaded
+ * from the primary; a replica that has not replayed the write yet would otherwise fill the new
+ * generation with a stale page for the whole TTL.
+ */
+@Component
+public class ExperimentSearchCache {
+
+    private final Cache<Key, Object> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final long lagWindowNanos;
+    private volatile long primaryLoadsUntil = System.nanoTime();
+
+    public ExperimentSearchCache(ExperimentSearchCacheProperties properties, ExperimentReplicaProperties replicaProperties) {
+        this.lagWindowNanos = replicaProperties.lagWindow().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+    }
+
+    public <T> T get(Experiment filter, Pageable pageable, CountStrategy countStrategy, Supplier<T> loader) {
+        return get(Key.of(generation.get(), filter, null, pageable, countStrategy), loader);
+    }
+
+    /**
+     * Pages of a sparse fieldset are cached apart from full pages and from other fieldsets.
+     */
+    public <T> T get(Experiment filter, List<String> fields, Pageable pageable, CountStrategy countStrategy,
+                     Supplier<T> loader) {
+        return get(Key.of(generation.get(), filter, List.copyOf(fields), pageable, countStrategy), loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, Supplier<T> loader) {
+        return (T) cache.get(key, k -> System.nanoTime() - primaryLoadsUntil < 0
+                ? ExperimentReadYourWrites.onPrimary(loader)
+                : loader.get());
+    }
+
+    /**
+     * Makes all cached pages unreachable. Called once a write is visible to other transactions.
+     * Entries of older generations are left to size and TTL eviction; clearing them here could
+     * block the writer on in-flight loads.
+     */
+    public void invalidate() {
+        primaryLoadsUntil = System.nanoTime() + lagWindowNanos;
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Invalidates after the current transaction commits, or right away when there is none.
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    public CacheStatistics statistics() {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                cache.estimatedSize()
+        );
+    }
+
+    /**
+     * Filter values normalized the way {@code ExperimentSpecification} applies them, and the
+     * selected fields, null for whole experiments.
+     */
+    private record Key(
+            long generation,
+            String title,
+            String leadResearcher,
+            String method,
+            ExperimentStatus status,
+            String category,
+            LocalDate startDate,
+            List<String> fields,
+            Pageable pageable,
+            CountStrategy countStrategy
+    ) {
+
+        static Key of(long generation, Experiment e, List<String> fields, Pageable pageable,
+                      CountStrategy countStrategy) {
+            return new Key(
+                    generation,
+                    lower(e.getTitle()),
+                    lower(e.getLeadResearcher()),
+                    e.getMethod(),
+                    e.getStatus(),
+                    e.getCategory(),
+                    e.getStartDate(),
+                    fields,
+                    pageable,
+                    countStrategy
+            );
+        }
+
+        private static String lower(String str) {
+            return str == null ? null : str.toLowerCase(Locale.ROOT);
+        }
+    }
+}
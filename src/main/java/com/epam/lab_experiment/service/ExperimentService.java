@@ -1,12 +1,57 @@
 package com.epam.lab_experiment.service;
 
+import com.epam.lab_experiment.model.BatchItemResult;
+import com.epam.lab_experiment.model.CacheStatistics;
+import com.epam.lab_experiment.model.CountStrategy;
 import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentChangeMarker;
+import com.epam.lab_experiment.model.ExperimentFacets;
+import com.epam.lab_experiment.model.ExperimentListing;
+import com.epam.lab_experiment.model.ImportReport;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface ExperimentService {
     Experiment save(Experiment e);
+    List<BatchItemResult> saveAll(Iterator<Experiment> experiments);
+    ImportReport importCsv(InputStream csv);
     Experiment update(long id, Experiment e);
+    /**
+     * @param expectedVersion version the experiment must still have, or null to patch any version
+     */
+    Experiment patch(long id, Experiment changes, Long expectedVersion);
+    Experiment findById(long id);
     Page<Experiment> findAll(Experiment e, Pageable pageable);
+    /**
+     * @return a {@link Page} totalled by the given strategy, or a bare {@link Slice} for {@link CountStrategy#NONE},
+     * with the change marker it was read at
+     */
+    ExperimentListing<Slice<Experiment>> findAll(Experiment e, Pageable pageable, CountStrategy countStrategy);
+    /**
+     * Sparse fieldset variant: each row holds only the given properties, in that order.
+     */
+    ExperimentListing<Slice<Map<String, Object>>> findAll(Experiment e, List<String> fields, Pageable pageable,
+                                                          CountStrategy countStrategy);
+    Page<Experiment> search(String query, Pageable pageable);
+    ExperimentFacets facets(Experiment e);
+    long export(Experiment e, Sort sort, Consumer<Experiment> consumer);
+    ExperimentListing<Window<Experiment>> scroll(Experiment e, Sort sort, int limit, KeysetScrollPosition position);
     void delete(long id);
+    void delete(long id, long expectedVersion);
+    CacheStatistics searchCacheStatistics();
+    /**
+     * Revision and time of the last write to any experiment, for conditional list requests. Read from
+     * where list reads go, so from a replica when they do.
+     */
+    ExperimentChangeMarker changeMarker();
 }
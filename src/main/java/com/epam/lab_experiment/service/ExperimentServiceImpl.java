@@ -1,55 +1,378 @@
 package com.epam.lab_experiment.service;
 
+import com.epam.lab_experiment.config.ExperimentBatchProperties;
+import com.epam.lab_experiment.config.ExperimentExportProperties;
 import com.epam.lab_experiment.exception.ExperimentNotFoundException;
+import com.epam.lab_experiment.exception.ExperimentVersionConflictException;
+import com.epam.lab_experiment.model.BatchItemResult;
+import com.epam.lab_experiment.model.CacheStatistics;
+import com.epam.lab_experiment.model.CountStrategy;
 import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentChangeMarker;
+import com.epam.lab_experiment.model.ExperimentFacets;
+import com.epam.lab_experiment.model.ExperimentListing;
+import com.epam.lab_experiment.model.ImportReport;
+import com.epam.lab_experiment.repository.ExperimentChangeMarkerRepository;
+import com.epam.lab_experiment.repository.ExperimentCountRepository;
+import com.epam.lab_experiment.repository.ExperimentFacetRepository;
+import com.epam.lab_experiment.repository.ExperimentImportRepository;
+import com.epam.lab_experiment.repository.ExperimentPatchRepository;
 import com.epam.lab_experiment.repository.ExperimentRepository;
 import com.epam.lab_experiment.repository.ExperimentSpecification;
+import com.epam.lab_experiment.repository.ExperimentSqlFilter;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
+import jakarta.validation.metadata.PropertyDescriptor;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ExperimentServiceImpl implements ExperimentService {
 
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+    private static final TransactionDefinition READ_ONLY = readOnlyDefinition();
+
     private final ExperimentRepository repository;
+    private final ExperimentImportRepository importRepository;
+    private final ExperimentPatchRepository patchRepository;
+    private final ExperimentCountRepository countRepository;
+    private final ExperimentFacetRepository facetRepository;
+    private final ExperimentChangeMarkerRepository changeMarkerRepository;
     private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ExperimentSearchCache searchCache;
+    private final ExperimentEntityCache entityCache;
+    private final ExperimentCountCache countCache;
+    private final ExperimentSlowQueryLog slowQueryLog;
+    private final ExperimentBatchProperties batchProperties;
+    private final ExperimentExportProperties exportProperties;
 
     @Override
     public Experiment save(Experiment e) {
-        return repository.save(e);
+        e.setUpdatedAt(now());
+        Experiment saved = repository.save(e);
+        searchCache.invalidateAfterCommit();
+        return saved;
+    }
+
+    /**
+     * Validates every experiment and inserts the valid ones in JDBC batches, one transaction
+     * per {@code experiment.batch.size} items. A failing batch does not roll back earlier ones.
+     */
+    @Override
+    public List<BatchItemResult> saveAll(Iterator<Experiment> experiments) {
+        List<BatchItemResult> results = new ArrayList<>();
+        List<Experiment> batch = new ArrayList<>(batchProperties.size());
+        List<Integer> batchIndexes = new ArrayList<>(batchProperties.size());
+
+        for (int index = 0; experiments.hasNext(); index++) {
+            Experiment e = experiments.next();
+            Map<String, String> errors = violations(e);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.rejected(index, errors));
+                continue;
+            }
+            e.setId(null);
+            e.setUpdatedAt(now());
+            batch.add(e);
+            batchIndexes.add(index);
+            if (batch.size() == batchProperties.size()) {
+                insertBatch(batch, batchIndexes, results);
+            }
+        }
+        insertBatch(batch, batchIndexes, results);
+
+        results.sort(Comparator.comparingInt(BatchItemResult::index));
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public ImportReport importCsv(InputStream csv) {
+        ImportReport report = importRepository.importCsv(csv, requiredMessages(), MAX_REPORTED_REJECTIONS);
+        searchCache.invalidateAfterCommit();
+        return report;
     }
 
     @Override
     public Experiment update(long id, Experiment update) {
         Experiment existing = findOrThrow(id);
         merge(update, existing);
-        validate(existing);
+        validate(validator, existing);
         return save(existing);
     }
 
+    /**
+     * Validates only the provided fields and updates them with one statement, without a prior read.
+     * The statement bypasses Hibernate, so the cached experiment is locked until the commit.
+     */
+    @Override
+    @Transactional
+    public Experiment patch(long id, Experiment changes, Long expectedVersion) {
+        validateProvided(changes);
+        entityCache.lockUntilCompletion(id);
+        Experiment patched = patchRepository.patch(id, changes, expectedVersion, now())
+                .orElseThrow(() -> missingOrConflict(id, expectedVersion));
+        searchCache.invalidateAfterCommit();
+        return patched;
+    }
+
+    @Override
+    public Experiment findById(long id) {
+        return findOrThrow(id);
+    }
+
     @Override
     public Page<Experiment> findAll(Experiment e, Pageable pageable) {
-        return repository.findAll(ExperimentSpecification.build(e), pageable);
+        return (Page<Experiment>) findAll(e, pageable, CountStrategy.EXACT).content();
+    }
+
+    @Override
+    public ExperimentListing<Slice<Experiment>> findAll(Experiment e, Pageable pageable, CountStrategy countStrategy) {
+        return searchCache.get(e, pageable, countStrategy, () -> load(e, pageable, countStrategy));
+    }
+
+    /**
+     * Selects only the requested columns, so rows are neither hydrated into entities nor tracked
+     * by the persistence context.
+     */
+    @Override
+    public ExperimentListing<Slice<Map<String, Object>>> findAll(Experiment e, List<String> fields, Pageable pageable,
+                                                                 CountStrategy countStrategy) {
+        return searchCache.get(e, fields, pageable, countStrategy, () -> readOnly(() -> listing(() ->
+                slowQueryLog.measure("findAll", ExperimentSpecification.shape(e), () -> {
+                    Specification<Experiment> spec = ExperimentSpecification.build(e);
+                    return withCount(e, spec, repository.findSlice(spec, fields, pageable), countStrategy);
+                }, Slice::getNumberOfElements))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Experiment> search(String query, Pageable pageable) {
+        return slowQueryLog.measure("search", "q",
+                () -> repository.search(query, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())),
+                Page::getNumberOfElements);
+    }
+
+    /**
+     * Without filters the counts come from the trigger-maintained summary table and cost
+     * one row per facet value, regardless of the number of experiments.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ExperimentFacets facets(Experiment e) {
+        return slowQueryLog.measure("facets", ExperimentSpecification.shape(e),
+                () -> facetRepository.count(ExperimentSqlFilter.of(e)), ExperimentFacets::total);
+    }
+
+    /**
+     * Hands every matching experiment to the consumer straight from a server-side cursor and
+     * detaches it afterwards, so memory use does not depend on the size of the result.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long export(Experiment e, Sort sort, Consumer<Experiment> consumer) {
+        long count = 0;
+        try (Stream<Experiment> experiments = repository.stream(
+                ExperimentSpecification.build(e), sort, exportProperties.fetchSize())) {
+            for (Iterator<Experiment> iterator = experiments.iterator(); iterator.hasNext(); count++) {
+                Experiment experiment = iterator.next();
+                consumer.accept(experiment);
+                entityManager.detach(experiment);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExperimentListing<Window<Experiment>> scroll(Experiment e, Sort sort, int limit,
+                                                        KeysetScrollPosition position) {
+        return listing(() -> slowQueryLog.measure("scroll", ExperimentSpecification.shape(e),
+                () -> repository.findBy(ExperimentSpecification.build(e), query -> query
+                        .sortBy(sort)
+                        .limit(limit)
+                        .scroll(position)),
+                Window::size));
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
-        repository.delete(findOrThrow(id));
+        entityCache.lockUntilCompletion(id);
+        if (repository.removeById(id) == 0) {
+            throw new ExperimentNotFoundException(id);
+        }
+        searchCache.invalidateAfterCommit();
+    }
+
+    @Override
+    @Transactional
+    public void delete(long id, long expectedVersion) {
+        entityCache.lockUntilCompletion(id);
+        if (repository.removeByIdAndVersion(id, expectedVersion) == 0) {
+            throw missingOrConflict(id, expectedVersion);
+        }
+        searchCache.invalidateAfterCommit();
+    }
+
+    @Override
+    public CacheStatistics searchCacheStatistics() {
+        return searchCache.statistics();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExperimentChangeMarker changeMarker() {
+        return changeMarkerRepository.find();
+    }
+
+    private ExperimentListing<Slice<Experiment>> load(Experiment e, Pageable pageable, CountStrategy countStrategy) {
+        return readOnly(() -> listing(() -> slowQueryLog.measure("findAll", ExperimentSpecification.shape(e),
+                () -> query(e, pageable, countStrategy), Slice::getNumberOfElements)));
+    }
+
+    /**
+     * Reads the marker before the rows, on the same connection: a write committed in between makes
+     * the marker older than the rows, which only costs the client one more full response.
+     */
+    private <T> ExperimentListing<T> listing(Supplier<T> rows) {
+        ExperimentChangeMarker marker = changeMarkerRepository.find();
+        return new ExperimentListing<>(rows.get(), marker);
+    }
+
+    /**
+     * Only cache misses open a read-only transaction, so cache hits take no connection.
+     */
+    private <T> T readOnly(Supplier<T> loader) {
+        return new TransactionTemplate(transactionTemplate.getTransactionManager(), READ_ONLY)
+                .execute(status -> loader.get());
+    }
+
+    private Slice<Experiment> query(Experiment e, Pageable pageable, CountStrategy countStrategy) {
+        Specification<Experiment> spec = ExperimentSpecification.build(e);
+        if (countStrategy == CountStrategy.EXACT) {
+            return repository.findAll(spec, pageable);
+        }
+        return withCount(e, spec, repository.findSlice(spec, pageable), countStrategy);
+    }
+
+    private <T> Slice<T> withCount(Experiment e, Specification<Experiment> spec, Slice<T> slice,
+                                   CountStrategy countStrategy) {
+        return switch (countStrategy) {
+            case EXACT -> withTotal(slice, () -> repository.count(spec));
+            case ESTIMATED -> withTotal(slice, () -> countRepository.estimateCount(ExperimentSqlFilter.of(e)));
+            case CACHED -> withTotal(slice, () -> countCache.get(ExperimentSqlFilter.of(e), () -> repository.count(spec)));
+            case NONE -> slice;
+        };
+    }
+
+    /**
+     * On the last page the total follows from the page itself, so the count is not needed.
+     * {@link PageImpl} also raises totals that are lower than what the page proves to exist.
+     */
+    private <T> Page<T> withTotal(Slice<T> slice, LongSupplier total) {
+        Pageable pageable = slice.getPageable();
+        if (!slice.hasNext() && (pageable.isUnpaged() || slice.hasContent() || pageable.getOffset() == 0)) {
+            long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+            return new PageImpl<>(slice.getContent(), pageable, offset + slice.getNumberOfElements());
+        }
+        return new PageImpl<>(slice.getContent(), pageable, total.getAsLong());
+    }
+
+    private void insertBatch(List<Experiment> batch, List<Integer> batchIndexes, List<BatchItemResult> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // bulk inserts would evict the experiments that are actually read one by one
+                entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+                repository.saveAll(batch);
+            });
+            searchCache.invalidate();
+            for (int i = 0; i < batch.size(); i++) {
+                results.add(BatchItemResult.created(batchIndexes.get(i), batch.get(i).getId()));
+            }
+        } catch (DataAccessException | TransactionException ex) {
+            String message = String.valueOf(ex.getMostSpecificCause().getMessage());
+            batchIndexes.forEach(index -> results.add(BatchItemResult.failed(index, message)));
+        } finally {
+            // keep the persistence context from growing across batches when it outlives the transaction
+            entityManager.clear();
+            batch.clear();
+            batchIndexes.clear();
+        }
     }
 
     private Experiment findOrThrow(long id) {
         return repository.findById(id).orElseThrow(() -> new ExperimentNotFoundException(id));
     }
 
-    private void merge(Experiment update, Experiment existing) {
+    /**
+     * Called only once a conditional write has matched no row, to tell why.
+     */
+    private RuntimeException missingOrConflict(long id, Long expectedVersion) {
+        if (expectedVersion == null || !repository.existsById(id)) {
+            return new ExperimentNotFoundException(id);
+        }
+        return new ExperimentVersionConflictException(id, expectedVersion);
+    }
+
+    /**
+     * Truncated to the precision of the {@code updated_at} column, so a saved experiment reports
+     * the same time as when it is read back.
+     */
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static TransactionDefinition readOnlyDefinition() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        return definition;
+    }
+
+    static void merge(Experiment update, Experiment existing) {
         Optional.ofNullable(update.getTitle())
                 .ifPresent(existing::setTitle);
         Optional.ofNullable(update.getLeadResearcher())
@@ -63,7 +386,41 @@ public class ExperimentServiceImpl implements ExperimentService {
         existing.setStartDate(update.getStartDate());
     }
 
-    private void validate(Experiment e) {
+    private Map<String, String> violations(Experiment e) {
+        return validator.validate(e).stream()
+                .collect(Collectors.toMap(
+                        v -> v.getPropertyPath().toString(),
+                        ConstraintViolation::getMessage,
+                        (first, second) -> first
+                ));
+    }
+
+    /**
+     * Messages of the constraints declared on {@link Experiment}, so that rows validated in the
+     * database are reported exactly like request bodies validated by Bean Validation.
+     */
+    private Map<String, String> requiredMessages() {
+        return validator.getConstraintsForClass(Experiment.class).getConstrainedProperties().stream()
+                .collect(Collectors.toMap(
+                        PropertyDescriptor::getPropertyName,
+                        p -> p.getConstraintDescriptors().iterator().next().getMessageTemplate()
+                ));
+    }
+
+    private void validateProvided(Experiment changes) {
+        BeanWrapper provided = new BeanWrapperImpl(changes);
+        Set<ConstraintViolation<Experiment>> violations = validator.getConstraintsForClass(Experiment.class)
+                .getConstrainedProperties().stream()
+                .map(PropertyDescriptor::getPropertyName)
+                .filter(property -> provided.getPropertyValue(property) != null)
+                .flatMap(property -> validator.validateProperty(changes, property).stream())
+                .collect(Collectors.toSet());
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    static void validate(Validator validator, Experiment e) {
         Set<ConstraintViolation<Experiment>> violations = validator.validate(e);
         if (!violations.isEmpty()) {
             throw new ConstraintViolationException(violations);
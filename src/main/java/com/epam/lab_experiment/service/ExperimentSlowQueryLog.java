@@ -0,0 +1,33 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.config.ExperimentSlowQueryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Logs queries slower than {@code experiment.slow-query.threshold} with the shape of their
+ * filter and the number of rows they returned.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExperimentSlowQueryLog {
+
+    private final ExperimentSlowQueryProperties properties;
+
+    <T> T measure(String operation, String filterShape, Supplier<T> query, ToLongFunction<T> rows) {
+        long started = System.nanoTime();
+        T result = query.get();
+        Duration took = Duration.ofNanos(System.nanoTime() - started);
+        if (took.compareTo(properties.threshold()) >= 0) {
+            log.warn("Slow experiment query: operation={} filter={} rows={} took={}ms",
+                    operation, filterShape, rows.applyAsLong(result), took.toMillis());
+        }
+        return result;
+    }
+}
@@ -1,12 +1,33 @@
 package com.epam.lab_experiment.web;
 
 
+import com.epam.lab_experiment.exception.ExperimentImportException;
 import com.epam.lab_experiment.exception.ExperimentNotFoundException;
+import com.epam.lab_experiment.exception.ExperimentServiceOverloadedException;
+import com.epam.lab_experiment.exception.ExperimentVersionConflictException;
+import com.epam.lab_experiment.exception.InvalidCursorException;
+import com.epam.lab_experiment.model.BatchItemResult;
+import com.epam.lab_experiment.model.CacheStatistics;
+import com.epam.lab_experiment.model.CountStrategy;
 import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentChangeMarker;
+import com.epam.lab_experiment.model.ExperimentFacets;
+import com.epam.lab_experiment.model.ExperimentListing;
+import com.epam.lab_experiment.model.ImportReport;
+import com.epam.lab_experiment.repository.ExperimentSpecification;
 import com.epam.lab_experiment.service.ExperimentService;
+import com.epam.lab_experiment.web.dto.BatchResponse;
+import com.epam.lab_experiment.web.dto.CursorPagedResponse;
 import com.epam.lab_experiment.web.dto.PagedResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -17,15 +38,33 @@ import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -34,7 +73,11 @@ import java.util.stream.Collectors;
 @RequestMapping("experiments")
 public class ExperimentController {
 
+    static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     private final ExperimentService experimentService;
+    private final ExperimentCursorCodec cursorCodec;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Create a new experiment")
     @ApiResponse(
@@ -66,6 +109,52 @@ public class ExperimentController {
         return experimentService.save(experiment);
     }
 
+    @Operation(summary = "Create experiments in bulk",
+            description = "Accepts a JSON array or an NDJSON stream. Each element is validated on its own; "
+                    + "valid ones are inserted in JDBC batches, committed batch by batch.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Per-item outcome, in request order",
+            content = @Content(schema = @Schema(implementation = BatchResponse.class))
+    )
+    @ApiResponse(responseCode = "400", description = "Malformed element; the batches before it are already committed")
+    @PostMapping(value = "batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    BatchResponse createBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Experiments as a JSON array or newline-delimited JSON",
+                    required = true,
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = Experiment.class)))
+            )
+            InputStream body) throws IOException {
+        try (MappingIterator<Experiment> experiments = objectMapper.readerFor(Experiment.class).readValues(body)) {
+            return toBatchResponse(experimentService.saveAll(experiments));
+        } catch (RuntimeException ex) {
+            if (ex.getCause() instanceof JsonProcessingException) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed batch element", ex);
+            }
+            throw ex;
+        }
+    }
+
+    @Operation(summary = "Import experiments from CSV",
+            description = "Expects the header line of the CSV export; ids in the file are ignored. "
+                    + "The file is streamed through COPY, validated and merged in one transaction.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Number of imported rows and the rejected rows with their validation errors",
+            content = @Content(schema = @Schema(implementation = ImportReport.class))
+    )
+    @ApiResponse(responseCode = "400", description = "Malformed CSV or unexpected header; nothing is imported")
+    @PostMapping(value = "import", consumes = "text/csv")
+    ImportReport importCsv(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "CSV with header id,title,leadResearcher,method,status,category,startDate",
+                    required = true
+            )
+            InputStream body) {
+        return experimentService.importCsv(body);
+    }
+
     @Operation(summary = "Get paginated list of experiments with optional filtering")
     @Parameter(name = "title", description = "Title text search filter")
     @Parameter(name = "leadResearcher", description = "Title text Lead Researcher")
@@ -73,17 +162,171 @@ public class ExperimentController {
     @Parameter(name = "status", description = "Allowed values: PLANNED, ONGOING, COMPLETE, CANCELLED")
     @Parameter(name = "category")
     @Parameter(name = "startDate", description = "Start date equal to or greater than")
+    @Parameter(name = "count", description = "How totalElements is computed: EXACT (default), ESTIMATED from the " +
+            "query planner, CACHED for a few seconds per filter, or NONE to omit it")
+    @Parameter(name = "fields", description = "Comma-separated properties to return, e.g. id,title,status; " +
+            "only those columns are selected. All properties by default")
     @ApiResponse(
             responseCode = "200",
             description = "List of experiments",
             content = @Content(schema = @Schema(implementation = PagedResponse.class))
     )
+    @ApiResponse(responseCode = "304", description = "No experiment has changed since the given ETag or date")
+    @ApiResponse(responseCode = "400", description = "Unknown field")
     @GetMapping
-    PagedResponse<Experiment> getExperiments(
+    PagedResponse<?> getExperiments(
             @Parameter(hidden = true) @ModelAttribute Experiment experiment,
-            @Parameter(hidden = true) @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+            @Parameter(hidden = true) @RequestParam(defaultValue = "EXACT") CountStrategy count,
+            @Parameter(hidden = true) @RequestParam(required = false) List<String> fields,
+            @Parameter(hidden = true) @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(hidden = true) WebRequest request
     ) {
-        return toPagedResponse(experimentService.findAll(experiment, pageable));
+        if (holdsCurrentRevision(request)) {
+            return null;
+        }
+        ExperimentListing<? extends Slice<?>> listing = fields == null || fields.isEmpty()
+                ? experimentService.findAll(experiment, pageable, count)
+                : experimentService.findAll(experiment, sparseFields(fields), pageable, count);
+        if (notModified(request, listing.marker())) {
+            return null;
+        }
+        Slice<?> slice = listing.content();
+        return toPagedResponse(slice, count);
+    }
+
+    @Operation(summary = "Get experiments with keyset (cursor) pagination and optional filtering",
+            description = "Selected when the cursor parameter is present. Does not compute total counts.")
+    @Parameter(name = "cursor", description = "Opaque nextCursor of the previous page; empty for the first page")
+    @Parameter(name = "title", description = "Title text search filter")
+    @Parameter(name = "leadResearcher", description = "Title text Lead Researcher")
+    @Parameter(name = "method")
+    @Parameter(name = "status", description = "Allowed values: PLANNED, ONGOING, COMPLETE, CANCELLED")
+    @Parameter(name = "category")
+    @Parameter(name = "startDate", description = "Start date equal to or greater than")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Slice of experiments",
+            content = @Content(schema = @Schema(implementation = CursorPagedResponse.class))
+    )
+    @ApiResponse(responseCode = "304", description = "No experiment has changed since the given ETag or date")
+    @ApiResponse(responseCode = "400", description = "Malformed cursor or unsupported sort")
+    @GetMapping(params = "cursor")
+    CursorPagedResponse<Experiment> getExperimentsByCursor(
+            @Parameter(hidden = true) @ModelAttribute Experiment experiment,
+            @Parameter(hidden = true) @RequestParam(defaultValue = "") String cursor,
+            @Parameter(hidden = true) @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(hidden = true) WebRequest request
+    ) {
+        if (holdsCurrentRevision(request)) {
+            return null;
+        }
+        Sort sort = pageable.getSort();
+        ExperimentListing<Window<Experiment>> listing = experimentService.scroll(
+                experiment, sort, pageable.getPageSize(), cursorCodec.decode(cursor, sort));
+        if (notModified(request, listing.marker())) {
+            return null;
+        }
+        return toCursorPagedResponse(listing.content(), pageable.getPageSize());
+    }
+
+    @Operation(summary = "Get an experiment by ID",
+            description = "Supports If-None-Match with the ETag and If-Modified-Since with the Last-Modified "
+                    + "of a previous response.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Experiment, with ETag and Last-Modified headers"),
+            @ApiResponse(responseCode = "304", description = "Experiment has not changed"),
+            @ApiResponse(responseCode = "404", description = "Experiment not found")
+    })
+    @GetMapping("{id}")
+    Experiment getExperiment(
+            @Parameter(description = "ID of the experiment") @PathVariable long id,
+            @Parameter(hidden = true) WebRequest request
+    ) {
+        Experiment experiment = experimentService.findById(id);
+        if (request.checkNotModified(ExperimentETags.of(experiment.getVersion()),
+                experiment.getUpdatedAt().toEpochMilli())) {
+            return null;
+        }
+        return experiment;
+    }
+
+    @Operation(summary = "Export all filtered experiments as NDJSON or CSV",
+            description = "Rows are streamed from a database cursor; the format is chosen by the Accept header, "
+                    + "NDJSON by default.")
+    @Parameter(name = "title", description = "Title text search filter")
+    @Parameter(name = "leadResearcher", description = "Title text Lead Researcher")
+    @Parameter(name = "method")
+    @Parameter(name = "status", description = "Allowed values: PLANNED, ONGOING, COMPLETE, CANCELLED")
+    @Parameter(name = "category")
+    @Parameter(name = "startDate", description = "Start date equal to or greater than")
+    @ApiResponse(responseCode = "200", description = "Stream of experiments")
+    @GetMapping(value = "export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    ResponseEntity<StreamingResponseBody> export(
+            @Parameter(hidden = true) @ModelAttribute Experiment experiment,
+            @Parameter(hidden = true) @SortDefault(sort = "id", direction = Sort.Direction.DESC) Sort sort,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = "*/*") String accept
+    ) {
+        boolean csv = MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(type -> !type.isWildcardType() && type.isCompatibleWith(TEXT_CSV));
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (csv) {
+                ExperimentCsvWriter csvWriter = new ExperimentCsvWriter(writer);
+                csvWriter.writeHeader();
+                experimentService.export(experiment, sort, csvWriter::write);
+                writer.flush();
+            } else {
+                ObjectWriter rowWriter = objectMapper.writerFor(Experiment.class)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                JsonGenerator generator = objectMapper.createGenerator(writer);
+                generator.setRootValueSeparator(null);
+                experimentService.export(experiment, sort, row -> writeLine(rowWriter, generator, row));
+                generator.flush();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Full-text search of experiments ranked by relevance")
+    @Parameter(name = "q", description = "Free text matched against title, lead researcher, category and method. "
+            + "Supports quoted phrases, OR and -exclusion")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Ranked list of experiments",
+            content = @Content(schema = @Schema(implementation = PagedResponse.class))
+    )
+    @GetMapping("search")
+    PagedResponse<Experiment> search(
+            @RequestParam String q,
+            @Parameter(hidden = true) @PageableDefault Pageable pageable
+    ) {
+        return toPagedResponse(experimentService.search(q, pageable), CountStrategy.EXACT);
+    }
+
+    @Operation(summary = "Count experiments by status, category and method with optional filtering")
+    @Parameter(name = "title", description = "Title text search filter")
+    @Parameter(name = "leadResearcher", description = "Title text Lead Researcher")
+    @Parameter(name = "method")
+    @Parameter(name = "status", description = "Allowed values: PLANNED, ONGOING, COMPLETE, CANCELLED")
+    @Parameter(name = "category")
+    @Parameter(name = "startDate", description = "Start date equal to or greater than")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Facet counts of the matching experiments",
+            content = @Content(schema = @Schema(implementation = ExperimentFacets.class))
+    )
+    @GetMapping("facets")
+    ExperimentFacets getFacets(@Parameter(hidden = true) @ModelAttribute Experiment experiment) {
+        return experimentService.facets(experiment);
+    }
+
+    @Operation(summary = "Hit, miss and eviction statistics of the search result cache")
+    @GetMapping("cache/stats")
+    CacheStatistics searchCacheStatistics() {
+        return experimentService.searchCacheStatistics();
     }
 
     @Operation(summary = "Update an existing experiment by ID")
@@ -107,6 +350,37 @@ public class ExperimentController {
         return experimentService.update(id, experiment);
     }
 
+    @Operation(summary = "Partially update an experiment",
+            description = "Sets only the provided fields in a single statement. With If-Match, the update "
+                    + "applies only if the experiment still has that ETag.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Experiment updated, new ETag in the response header"),
+            @ApiResponse(responseCode = "400", description = "Invalid field values"),
+            @ApiResponse(responseCode = "404", description = "Experiment not found"),
+            @ApiResponse(responseCode = "412", description = "Experiment changed since the given ETag")
+    })
+    @PatchMapping("{id}")
+    ResponseEntity<Experiment> patch(
+            @Parameter(description = "ID of the experiment to update")
+            @PathVariable
+            long id,
+            @Parameter(description = "ETag of the experiment as last read")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            String ifMatch,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Fields to change; absent or null fields are kept",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = Experiment.class))
+            )
+            @RequestBody
+            Experiment changes
+    ) {
+        Experiment patched = experimentService.patch(id, changes, expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ExperimentETags.of(patched.getVersion()))
+                .body(patched);
+    }
+
     @Operation(summary = "Delete an experiment by ID")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Experiment deleted"),
@@ -114,8 +388,17 @@ public class ExperimentController {
     })
     @DeleteMapping("{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    void delete(@Parameter(description = "ID of the experiment to delete") @PathVariable long id) {
-        experimentService.delete(id);
+    void delete(
+            @Parameter(description = "ID of the experiment to delete") @PathVariable long id,
+            @Parameter(description = "ETag of the experiment; the delete fails with 412 if it has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        Long expectedVersion = expectedVersion(ifMatch);
+        if (expectedVersion == null) {
+            experimentService.delete(id);
+        } else {
+            experimentService.delete(id, expectedVersion);
+        }
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
@@ -150,13 +433,113 @@ public class ExperimentController {
         return Map.of("message", ex.getMessage());
     }
 
-    private PagedResponse<Experiment> toPagedResponse(Page<Experiment> page) {
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(ExperimentImportException.class)
+    public Map<String, String> handleImportExceptions(ExperimentImportException ex) {
+        return Map.of("message", ex.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public Map<String, String> handleInvalidCursorExceptions(InvalidCursorException ex) {
+        return Map.of("message", ex.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ExceptionHandler(ExperimentVersionConflictException.class)
+    public Map<String, String> handleVersionConflictExceptions(ExperimentVersionConflictException ex) {
+        return Map.of("message", ex.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public Map<String, String> handleOptimisticLockingExceptions(OptimisticLockingFailureException ex) {
+        return Map.of("message", "Experiment has been modified concurrently, retry with the current version");
+    }
+
+    @ExceptionHandler(ExperimentServiceOverloadedException.class)
+    public ResponseEntity<Map<String, String>> handleOverloadedExceptions(ExperimentServiceOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("message", ex.getMessage()));
+    }
+
+    private void writeLine(ObjectWriter rowWriter, JsonGenerator generator, Experiment experiment) {
+        try {
+            rowWriter.writeValue(generator, experiment);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private BatchResponse toBatchResponse(List<BatchItemResult> items) {
+        Map<BatchItemResult.Status, Long> counts = items.stream()
+                .collect(Collectors.groupingBy(BatchItemResult::status, Collectors.counting()));
+        return new BatchResponse(
+                counts.getOrDefault(BatchItemResult.Status.CREATED, 0L),
+                counts.getOrDefault(BatchItemResult.Status.REJECTED, 0L),
+                counts.getOrDefault(BatchItemResult.Status.FAILED, 0L),
+                items
+        );
+    }
+
+    private CursorPagedResponse<Experiment> toCursorPagedResponse(Window<Experiment> window, int size) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? cursorCodec.encode(window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPagedResponse<>(window.getContent(), size, nextCursor);
+    }
+
+    private static <T> PagedResponse<T> toPagedResponse(Slice<T> slice, CountStrategy countStrategy) {
+        Page<T> page = slice instanceof Page<T> p ? p : null;
         return new PagedResponse<>(
-                page.getContent(),
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages()
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                page == null ? null : page.getTotalElements(),
+                page == null ? null : page.getTotalPages(),
+                slice.hasNext(),
+                countStrategy
         );
     }
+
+    /**
+     * Lists are tagged with the change marker read along with their rows. A client that already holds
+     * the current revision is answered with one marker lookup, before any page or count query runs;
+     * one that only sends If-Modified-Since is answered once the rows are read.
+     */
+    private boolean holdsCurrentRevision(WebRequest request) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ExperimentChangeMarker marker = experimentService.changeMarker();
+        return ExperimentETags.matchesWeak(ifNoneMatch, marker.revision()) && notModified(request, marker);
+    }
+
+    /**
+     * Sets the ETag and Last-Modified headers of the marker either way.
+     */
+    private static boolean notModified(WebRequest request, ExperimentChangeMarker marker) {
+        return request.checkNotModified(ExperimentETags.weak(marker.revision()), marker.changedAt().toEpochMilli());
+    }
+
+    private static List<String> sparseFields(List<String> fields) {
+        List<String> unknown = fields.stream()
+                .filter(field -> !ExperimentSpecification.FIELD_PROPERTIES.contains(field))
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown fields: " + unknown);
+        }
+        return fields.stream().distinct().toList();
+    }
+
+    private static Long expectedVersion(String ifMatch) {
+        try {
+            return ExperimentETags.ifMatchVersion(ifMatch);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
 }
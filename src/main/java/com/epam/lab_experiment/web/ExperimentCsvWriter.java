@@ -0,0 +1,52 @@
+package com.epam.lab_experiment.web;
+
+import com.epam.lab_experiment.model.Experiment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Writes experiments as RFC 4180 CSV rows with a header line.
+ */
+class ExperimentCsvWriter {
+
+    private static final String HEADER = "id,title,leadResearcher,method,status,category,startDate";
+
+    private final Writer writer;
+
+    ExperimentCsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    void write(Experiment e) {
+        try {
+            writer.write(String.join(",",
+                    field(e.getId()),
+                    field(e.getTitle()),
+                    field(e.getLeadResearcher()),
+                    field(e.getMethod()),
+                    field(e.getStatus()),
+                    field(e.getCategory()),
+                    field(e.getStartDate())
+            ));
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String field(Object value) {
+        String str = Objects.toString(value, "");
+        if (str.indexOf(',') < 0 && str.indexOf('"') < 0 && str.indexOf('\n') < 0 && str.indexOf('\r') < 0) {
+            return str;
+        }
+        return '"' + str.replace("\"", "\"\"") + '"';
+    }
+}
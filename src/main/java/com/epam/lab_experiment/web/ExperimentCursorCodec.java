@@ -0,0 +1,88 @@
+package com.epam.lab_experiment.web;
+
+import com.epam.lab_experiment.exception.InvalidCursorException;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.repository.ExperimentSpecification;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursors and back.
+ * A cursor carries the last row's sort key values plus its id.
+ */
+@Component
+@RequiredArgsConstructor
+class ExperimentCursorCodec {
+
+    private static final TypeReference<Map<String, Object>> KEYS_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Not a keyset position: " + position);
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(keyset.getKeys());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to encode cursor", ex);
+        }
+    }
+
+    KeysetScrollPosition decode(String cursor, Sort sort) {
+        validate(sort);
+        if (cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> raw;
+        try {
+            raw = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor", ex);
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        sort.forEach(order -> keys.put(order.getProperty(), keyValue(raw, order.getProperty())));
+        keys.put(ExperimentSpecification.ID, keyValue(raw, ExperimentSpecification.ID));
+
+        if (!keys.keySet().equals(raw.keySet())) {
+            throw new InvalidCursorException("Cursor does not match the requested sort");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private void validate(Sort sort) {
+        sort.stream()
+                .map(Sort.Order::getProperty)
+                .filter(property -> !ExperimentSpecification.KEYSET_PROPERTIES.contains(property))
+                .findFirst()
+                .ifPresent(property -> {
+                    throw new InvalidCursorException("Cursor pagination does not support sorting by " + property);
+                });
+    }
+
+    private Object keyValue(Map<String, Object> raw, String property) {
+        Object value = raw.get(property);
+        if (value == null) {
+            throw new InvalidCursorException("Cursor does not match the requested sort");
+        }
+        try {
+            return objectMapper.convertValue(value, BeanUtils.findPropertyType(property, Experiment.class));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.lab_experiment.web;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Strong entity tags of experiments, derived from their optimistic locking version, and weak tags
+ * of experiment lists, derived from the revision of the change marker.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ExperimentETags {
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Lists are served in several encodings and compressed, so their byte-exact equality is not
+     * promised. Tomcat also leaves responses with a strong tag uncompressed.
+     */
+    static String weak(long revision) {
+        return "W/" + of(revision);
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header lists the tag of {@code revision} or {@code *}, using the
+     * weak comparison that header calls for.
+     */
+    static boolean matchesWeak(String ifNoneMatch, long revision) {
+        String tag = of(revision);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::strip)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals(tag) || candidate.equals("*"));
+    }
+
+    /**
+     * @return the version required by an {@code If-Match} header, null when any version matches
+     * @throws IllegalArgumentException when the header lists anything but a single strong tag or {@code *}
+     */
+    static Long ifMatchVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.strip())) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single strong entity tag or *");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("If-Match does not contain an experiment version", ex);
+        }
+    }
+}
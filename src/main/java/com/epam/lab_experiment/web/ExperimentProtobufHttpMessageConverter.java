@@ -0,0 +1,162 @@
+package com.epam.lab_experiment.web;
+
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import com.epam.lab_experiment.repository.ExperimentSpecification;
+import com.epam.lab_experiment.web.dto.PagedResponse;
+import com.epam.lab_experiment.web.proto.CountStrategy;
+import com.epam.lab_experiment.web.proto.ExperimentMessage;
+import com.epam.lab_experiment.web.proto.ExperimentPageMessage;
+import com.epam.lab_experiment.web.proto.Status;
+import com.google.protobuf.Message;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * Writes experiments and list responses, sparse fieldsets included, as the protobuf messages of
+ * {@code experiment.proto}, and reads experiments. Mapped by hand, so that the schema rather than
+ * the Java classes defines the wire format.
+ */
+public class ExperimentProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public ExperimentProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == Experiment.class || clazz == PagedResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return clazz == Experiment.class && canRead(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return fromMessage(ExperimentMessage.parseFrom(inputMessage.getBody()));
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        Message message = body instanceof Experiment experiment
+                ? toMessage(experiment)
+                : toMessage((PagedResponse<?>) body);
+        message.writeTo(outputMessage.getBody());
+    }
+
+    static ExperimentPageMessage toMessage(PagedResponse<?> page) {
+        ExperimentPageMessage.Builder builder = ExperimentPageMessage.newBuilder()
+                .setPage(page.page())
+                .setSize(page.size())
+                .setHasNext(page.hasNext())
+                .setCountStrategy(CountStrategy.valueOf(page.countStrategy().name()));
+        if (page.totalElements() != null) {
+            builder.setTotalElements(page.totalElements());
+        }
+        if (page.totalPages() != null) {
+            builder.setTotalPages(page.totalPages());
+        }
+        for (Object row : page.content()) {
+            builder.addContent(row instanceof Experiment experiment
+                    ? toMessage(experiment)
+                    : toMessage((Map<?, ?>) row));
+        }
+        return builder.build();
+    }
+
+    static ExperimentMessage toMessage(Experiment e) {
+        ExperimentMessage.Builder builder = ExperimentMessage.newBuilder()
+                .setVersion(e.getVersion());
+        if (e.getId() != null) {
+            builder.setId(e.getId());
+        }
+        if (e.getTitle() != null) {
+            builder.setTitle(e.getTitle());
+        }
+        if (e.getLeadResearcher() != null) {
+            builder.setLeadResearcher(e.getLeadResearcher());
+        }
+        if (e.getMethod() != null) {
+            builder.setMethod(e.getMethod());
+        }
+        if (e.getStatus() != null) {
+            builder.setStatus(Status.valueOf(e.getStatus().name()));
+        }
+        if (e.getCategory() != null) {
+            builder.setCategory(e.getCategory());
+        }
+        if (e.getStartDate() != null) {
+            builder.setStartDate(Math.toIntExact(e.getStartDate().toEpochDay()));
+        }
+        if (e.getUpdatedAt() != null) {
+            builder.setUpdatedAt(ChronoUnit.MICROS.between(Instant.EPOCH, e.getUpdatedAt()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * A sparse fieldset row, keyed by {@link ExperimentSpecification#FIELD_PROPERTIES}.
+     */
+    static ExperimentMessage toMessage(Map<?, ?> row) {
+        ExperimentMessage.Builder builder = ExperimentMessage.newBuilder();
+        row.forEach((field, value) -> {
+            if (value == null) {
+                return;
+            }
+            switch ((String) field) {
+                case ExperimentSpecification.ID -> builder.setId(((Number) value).longValue());
+                case ExperimentSpecification.TITLE -> builder.setTitle((String) value);
+                case ExperimentSpecification.LEAD_RESEARCHER -> builder.setLeadResearcher((String) value);
+                case ExperimentSpecification.METHOD -> builder.setMethod((String) value);
+                case ExperimentSpecification.STATUS -> builder.setStatus(Status.valueOf(((ExperimentStatus) value).name()));
+                case ExperimentSpecification.CATEGORY -> builder.setCategory((String) value);
+                case ExperimentSpecification.START_DATE ->
+                        builder.setStartDate(Math.toIntExact(((LocalDate) value).toEpochDay()));
+                case ExperimentSpecification.VERSION -> builder.setVersion(((Number) value).longValue());
+                case ExperimentSpecification.UPDATED_AT ->
+                        builder.setUpdatedAt(ChronoUnit.MICROS.between(Instant.EPOCH, (Instant) value));
+                default -> throw new IllegalArgumentException("Unknown experiment field " + field);
+            }
+        });
+        return builder.build();
+    }
+
+    static PagedResponse<Experiment> fromMessage(ExperimentPageMessage message) {
+        return new PagedResponse<>(
+                message.getContentList().stream().map(ExperimentProtobufHttpMessageConverter::fromMessage).toList(),
+                message.getPage(),
+                message.getSize(),
+                message.hasTotalElements() ? message.getTotalElements() : null,
+                message.hasTotalPages() ? message.getTotalPages() : null,
+                message.getHasNext(),
+                com.epam.lab_experiment.model.CountStrategy.valueOf(message.getCountStrategy().name())
+        );
+    }
+
+    static Experiment fromMessage(ExperimentMessage message) {
+        return Experiment.builder()
+                .id(message.hasId() ? message.getId() : null)
+                .title(message.hasTitle() ? message.getTitle() : null)
+                .leadResearcher(message.hasLeadResearcher() ? message.getLeadResearcher() : null)
+                .method(message.hasMethod() ? message.getMethod() : null)
+                .status(message.hasStatus() ? ExperimentStatus.valueOf(message.getStatus().name()) : null)
+                .category(message.hasCategory() ? message.getCategory() : null)
+                .startDate(message.hasStartDate() ? LocalDate.ofEpochDay(message.getStartDate()) : null)
+                .version(message.getVersion())
+                .updatedAt(message.hasUpdatedAt() ? Instant.EPOCH.plus(message.getUpdatedAt(), ChronoUnit.MICROS) : null)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.epam.lab_experiment.web;
+
+import com.epam.lab_experiment.repository.ExperimentSpecification;
+import com.epam.lab_experiment.repository.ExperimentStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many statements Hibernate issued while handling a request, tagged like
+ * {@code http.server.requests}. Rows streamed after the handler returned are not counted.
+ */
+@RequiredArgsConstructor
+public class ExperimentRequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_METRIC = "experiment.request.statements";
+
+    private final ExperimentStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        statementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.stop();
+            DistributionSummary.builder(STATEMENTS_METRIC)
+                    .description("Hibernate statements per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri(request))
+                    .tag(ExperimentServerRequestObservationConvention.FILTER, filterShape(request))
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    static String filterShape(HttpServletRequest request) {
+        return ExperimentSpecification.shape(property -> request.getParameter(property) != null);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.epam.lab_experiment.web;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * Adds a {@code filter} tag to {@code http.server.requests} naming the experiment filters present
+ * in the query string, so latency can be broken down by search combination.
+ */
+public class ExperimentServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String FILTER = "filter";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+                .and(FILTER, ExperimentRequestMetricsFilter.filterShape(context.getCarrier()));
+    }
+}
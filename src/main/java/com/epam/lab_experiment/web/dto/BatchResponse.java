@@ -0,0 +1,12 @@
+package com.epam.lab_experiment.web.dto;
+
+import com.epam.lab_experiment.model.BatchItemResult;
+
+import java.util.List;
+
+public record BatchResponse(
+        long created,
+        long rejected,
+        long failed,
+        List<BatchItemResult> items
+) {}
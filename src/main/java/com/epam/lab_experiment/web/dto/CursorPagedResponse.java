@@ -0,0 +1,9 @@
+package com.epam.lab_experiment.web.dto;
+
+import java.util.List;
+
+public record CursorPagedResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor
+) {}
@@ -1,11 +1,21 @@
 package com.epam.lab_experiment.web.dto;
 
+import com.epam.lab_experiment.model.CountStrategy;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+/**
+ * @param totalElements exact or approximate depending on {@code countStrategy}, absent for {@link CountStrategy#NONE}
+ * @param totalPages    derived from {@code totalElements}, absent for {@link CountStrategy#NONE}
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PagedResponse<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages
+        Long totalElements,
+        Integer totalPages,
+        boolean hasNext,
+        CountStrategy countStrategy
 ) {}
@@ -0,0 +1,17 @@
+package com.epam.lab_experiment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param port             port of the non-blocking read endpoints, separate from the servlet port
+ * @param poolSize         maximum number of R2DBC connections
+ * @param eventLoopThreads number of threads serving all reactive requests
+ */
+@ConfigurationProperties("experiment.reactive")
+public record ExperimentReactiveProperties(
+        @DefaultValue("8081") int port,
+        @DefaultValue("10") int poolSize,
+        @DefaultValue("4") int eventLoopThreads
+) {
+}
@@ -0,0 +1,138 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.config.ExperimentReactiveProperties;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Non-blocking reads of experiments over R2DBC, filtered exactly like {@link ExperimentSpecification}
+ * through {@link ExperimentSqlFilter}.
+ * <p>
+ * The connection pool is owned here rather than exposed as a bean: a {@code ConnectionFactory} bean
+ * would make Spring Boot back off from the JDBC DataSource that the write path needs.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveExperimentRepository implements DisposableBean {
+
+    private static final String SELECT = """
+            SELECT id, title, lead_researcher, method, status, category, start_date, version, updated_at
+            FROM experiment
+            WHERE %s
+            ORDER BY %s
+            """;
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            ExperimentSpecification.ID, "id",
+            ExperimentSpecification.TITLE, "title",
+            ExperimentSpecification.LEAD_RESEARCHER, "lead_researcher",
+            ExperimentSpecification.METHOD, "method",
+            ExperimentSpecification.STATUS, "status",
+            ExperimentSpecification.CATEGORY, "category",
+            ExperimentSpecification.START_DATE, "start_date"
+    );
+
+    private final ConnectionPool pool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveExperimentRepository(JdbcConnectionDetails connectionDetails, ExperimentReactiveProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl(connectionDetails.getJdbcUrl()))
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, connectionDetails.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, connectionDetails.getPassword())
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(properties.poolSize())
+                .build());
+        this.databaseClient = DatabaseClient.create(pool);
+    }
+
+    /**
+     * @param fetchSize rows requested from the server per round trip, following downstream demand
+     */
+    public Flux<Experiment> findAll(ExperimentSqlFilter filter, Sort sort, long offset, int limit, int fetchSize) {
+        return query(SELECT.formatted(filter.where(), orderBy(sort)) + " LIMIT :limit OFFSET :offset", filter, fetchSize)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> toExperiment(row))
+                .all();
+    }
+
+    public Flux<Experiment> stream(ExperimentSqlFilter filter, Sort sort, int fetchSize) {
+        return query(SELECT.formatted(filter.where(), orderBy(sort)), filter, fetchSize)
+                .map((row, metadata) -> toExperiment(row))
+                .all();
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+
+    private DatabaseClient.GenericExecuteSpec query(String sql, ExperimentSqlFilter filter, int fetchSize) {
+        return databaseClient.sql(sql)
+                .bindValues(filter.parameters())
+                .filter(statement -> statement.fetchSize(fetchSize));
+    }
+
+    /**
+     * Same ordering as the JPA path, with the id as a tie-breaker for stable paging.
+     *
+     * @throws IllegalArgumentException for properties that are not columns of experiment
+     */
+    private static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ");
+        for (Sort.Order order : sort) {
+            String column = COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        if (sort.getOrderFor(ExperimentSpecification.ID) == null) {
+            orderBy.add("id DESC");
+        }
+        return orderBy.toString();
+    }
+
+    private static Experiment toExperiment(Row row) {
+        return Experiment.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .leadResearcher(row.get("lead_researcher", String.class))
+                .method(row.get("method", String.class))
+                .status(ExperimentStatus.valueOf(row.get("status", String.class)))
+                .category(row.get("category", String.class))
+                .startDate(row.get("start_date", LocalDate.class))
+                .version(row.get("version", Long.class))
+                .updatedAt(row.get("updated_at", Instant.class))
+                .build();
+    }
+
+    /**
+     * {@code jdbc:postgresql://host:port/db?params} to {@code r2dbc:postgresql://host:port/db};
+     * JDBC driver parameters have no R2DBC counterpart and are dropped.
+     */
+    private static String r2dbcUrl(String jdbcUrl) {
+        String url = jdbcUrl.replaceFirst("^jdbc:", "r2dbc:");
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+}
@@ -0,0 +1,128 @@
+package com.epam.lab_experiment.web;
+
+import com.epam.lab_experiment.config.ExperimentExportProperties;
+import com.epam.lab_experiment.model.CountStrategy;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.repository.ExperimentSqlFilter;
+import com.epam.lab_experiment.repository.ReactiveExperimentRepository;
+import com.epam.lab_experiment.web.dto.PagedResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.format.support.FormattingConversionService;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterparts of the list and NDJSON export endpoints of {@link ExperimentController},
+ * taking the same filter, paging and sort parameters. Lists are not counted, as with
+ * {@code count=NONE}.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+class ReactiveExperimentHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 2000;
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "id");
+
+    private static final FormattingConversionService CONVERSION_SERVICE = isoConversionService();
+
+    private final ReactiveExperimentRepository repository;
+    private final ExperimentExportProperties exportProperties;
+
+    RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/experiments/export", request -> Mono.defer(() -> export(request)))
+                .GET("/experiments", request -> Mono.defer(() -> list(request)))
+                .onError(ReactiveExperimentHandler::isBadRequest, (ex, request) ->
+                        ServerResponse.badRequest().bodyValue(Map.of("message", String.valueOf(ex.getMessage()))))
+                .build();
+    }
+
+    /**
+     * Invalid sort properties are rejected inside the repository, whose exceptions Spring translates.
+     */
+    private static boolean isBadRequest(Throwable ex) {
+        return ex instanceof IllegalArgumentException || ex instanceof InvalidDataAccessApiUsageException;
+    }
+
+    private Mono<ServerResponse> list(ServerRequest request) {
+        int page = intParam(request, "page", 0);
+        int size = Math.min(intParam(request, "size", DEFAULT_PAGE_SIZE), MAX_PAGE_SIZE);
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must not be negative and size must be positive");
+        }
+        Sort sort = sort(request);
+
+        return filter(request)
+                .flatMap(filter -> repository
+                        .findAll(filter, sort, (long) page * size, size + 1, size + 1)
+                        .collectList())
+                .flatMap(rows -> {
+                    boolean hasNext = rows.size() > size;
+                    List<Experiment> content = hasNext ? rows.subList(0, size) : rows;
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(new PagedResponse<>(content, page, size, null, null, hasNext, CountStrategy.NONE));
+                });
+    }
+
+    /**
+     * Rows are read from the database as the client consumes them, a fetch-size batch at a time.
+     */
+    private Mono<ServerResponse> export(ServerRequest request) {
+        Sort sort = sort(request);
+        return filter(request).flatMap(filter -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(repository.stream(filter, sort, exportProperties.fetchSize()), Experiment.class));
+    }
+
+    private static Mono<ExperimentSqlFilter> filter(ServerRequest request) {
+        return request.bind(Experiment.class, binder -> binder.setConversionService(CONVERSION_SERVICE))
+                .map(ExperimentSqlFilter::of);
+    }
+
+    /**
+     * Parses {@code sort=property[,asc|desc]} parameters like Spring Data's web support.
+     */
+    private static Sort sort(ServerRequest request) {
+        List<String> params = request.queryParams().getOrDefault("sort", List.of());
+        if (params.isEmpty()) {
+            return DEFAULT_SORT;
+        }
+        Sort sort = Sort.unsorted();
+        for (String param : params) {
+            String[] parts = param.split(",");
+            Sort.Direction direction = parts.length > 1
+                    ? Sort.Direction.fromString(parts[1].strip())
+                    : Sort.Direction.ASC;
+            sort = sort.and(Sort.by(direction, parts[0].strip()));
+        }
+        return sort;
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        return request.queryParam(name).map(Integer::parseInt).orElse(defaultValue);
+    }
+
+    private static FormattingConversionService isoConversionService() {
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService(false);
+        DateTimeFormatterRegistrar registrar = new DateTimeFormatterRegistrar();
+        registrar.setUseIsoFormat(true);
+        registrar.registerFormatters(conversionService);
+        return conversionService;
+    }
+}
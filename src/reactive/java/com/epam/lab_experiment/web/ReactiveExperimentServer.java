@@ -0,0 +1,71 @@
+package com.epam.lab_experiment.web;
+
+import com.epam.lab_experiment.config.ExperimentReactiveProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Reactor Netty server for {@link ReactiveExperimentHandler}, running next to the servlet container
+ * on its own port with a fixed number of event loop threads.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveExperimentServer implements SmartLifecycle {
+
+    private final ReactiveExperimentHandler handler;
+    private final ExperimentReactiveProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private volatile LoopResources loops;
+    private volatile DisposableServer server;
+
+    @Override
+    public void start() {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(handler.routes(), strategies);
+
+        loops = LoopResources.create("experiment-reactive", properties.eventLoopThreads(), true);
+        server = HttpServer.create()
+                .port(properties.port())
+                .runOn(loops)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+    }
+
+    @Override
+    public void stop() {
+        server.disposeNow();
+        loops.disposeLater().block();
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Actual port, useful when configured as 0.
+     */
+    public int getPort() {
+        return server.port();
+    }
+}
@@ -3,8 +3,18 @@ package com.epam.lab_experiment;
 import com.epam.lab_experiment.model.Experiment;
 import com.epam.lab_experiment.model.ExperimentStatus;
 import com.epam.lab_experiment.repository.ExperimentRepository;
+import com.epam.lab_experiment.service.ExperimentSearchCache;
+import com.epam.lab_experiment.service.ExperimentService;
 import com.epam.lab_experiment.util.JsonUtil;
+import com.epam.lab_experiment.web.proto.ExperimentPageMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,18 +23,32 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.epam.lab_experiment.util.TestDataUtil.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -40,10 +64,21 @@ class LabExperimentIntegrationTest extends PostgresTestContainer {
     private MockMvc mvc;
     @Autowired
     private JsonUtil jsonUtil;
+    @Autowired
+    private ExperimentSearchCache searchCache;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ExperimentService experimentService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @AfterEach
     void tearDown() {
         repository.deleteAll();
+        searchCache.invalidate();
+        // the deletes leave soft locks that would keep rows reusing these ids and versions out of the cache
+        entityManagerFactory.getCache().evictAll();
     }
 
     @DisplayName("Should save a new experiment record")
@@ -121,6 +156,48 @@ class LabExperimentIntegrationTest extends PostgresTestContainer {
         assertThat(repository.count()).isZero();
     }
 
+    @DisplayName("Should patch provided fields only and reject a patch based on an outdated ETag")
+    @Sql("/test-data/single-record.sql")
+    @Test
+    void shouldPatchExperimentRecordWithOptimisticLocking() throws Exception {
+        Experiment before = repository.findById(ID).orElseThrow();
+
+        mvc.perform(patch(EXPERIMENT_ID_ENDPOINT, ID)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"CANCELLED\"}"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        header().string(HttpHeaders.ETAG, "\"1\""),
+                        jsonPath("$.status", Matchers.equalTo("CANCELLED")),
+                        jsonPath("$.title", Matchers.equalTo(before.getTitle())),
+                        jsonPath("$.version", Matchers.equalTo(1))
+                );
+
+        mvc.perform(patch(EXPERIMENT_ID_ENDPOINT, ID)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Lost update\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mvc.perform(delete(EXPERIMENT_ID_ENDPOINT, ID).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(repository.findById(ID).orElseThrow())
+                .satisfies(exp -> {
+                    assertThat(exp.getTitle()).isEqualTo(before.getTitle());
+                    assertThat(exp.getStartDate()).isEqualTo(before.getStartDate());
+                    assertThat(exp.getVersion()).isEqualTo(1);
+                });
+
+        mvc.perform(delete(EXPERIMENT_ID_ENDPOINT, ID).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isNoContent());
+        mvc.perform(patch(EXPERIMENT_ID_ENDPOINT, ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Gone\"}"))
+                .andExpect(status().isNotFound());
+    }
+
     @DisplayName("Should retrieve paged experiment records")
     @Sql("/test-data/multi-record.sql")
     @Test
@@ -136,6 +213,211 @@ class LabExperimentIntegrationTest extends PostgresTestContainer {
                 );
     }
 
+    @DisplayName("Should report cached and estimated totals together with the strategy that produced them")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldRetrieveCachedAndEstimatedTotals() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?size=2&count=CACHED"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.totalElements", Matchers.equalTo(5)),
+                        jsonPath("$.countStrategy", Matchers.equalTo("CACHED"))
+                );
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?size=2&count=ESTIMATED"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.content", hasSize(2)),
+                        jsonPath("$.totalElements", Matchers.greaterThanOrEqualTo(2)),
+                        jsonPath("$.countStrategy", Matchers.equalTo("ESTIMATED"))
+                );
+    }
+
+    @DisplayName("Should omit totals when count is NONE")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldRetrieveExperimentRecordsWithoutCount() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?page=2&size=2&count=NONE"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.content", hasSize(1)),
+                        jsonPath("$.hasNext", Matchers.equalTo(false)),
+                        jsonPath("$.totalElements").doesNotExist(),
+                        jsonPath("$.countStrategy", Matchers.equalTo("NONE"))
+                );
+    }
+
+    @DisplayName("Should retrieve only the requested fields of filtered experiment records")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldRetrieveSparseFieldsets() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?fields=id,title,status&status={status}&sort=title&size=1",
+                        ExperimentStatus.PLANNED))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.content[0].id", Matchers.equalTo(4)),
+                        jsonPath("$.content[0].title").isString(),
+                        jsonPath("$.content[0].status", Matchers.equalTo("PLANNED")),
+                        jsonPath("$.content[0].category").doesNotExist(),
+                        jsonPath("$.content[0].version").doesNotExist(),
+                        jsonPath("$.totalElements", Matchers.equalTo(2))
+                );
+    }
+
+    @DisplayName("Should answer conditional list requests with 304 until an experiment changes")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldAnswerConditionalListRequests() throws Exception {
+        String etag = mvc.perform(get(EXPERIMENTS_ENDPOINT + "?size=2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?size=2").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mvc.perform(patch(EXPERIMENT_ID_ENDPOINT, 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"ONGOING\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?size=2").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+    }
+
+    @DisplayName("Should answer a conditional experiment request with 304 until the experiment changes")
+    @Sql("/test-data/single-record.sql")
+    @Test
+    void shouldAnswerConditionalExperimentRequests() throws Exception {
+        MvcResult result = mvc.perform(get(EXPERIMENT_ID_ENDPOINT, ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedAt").exists())
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mvc.perform(patch(EXPERIMENT_ID_ENDPOINT, ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"method\": \"cohort\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.method", Matchers.equalTo("cohort")));
+    }
+
+    @DisplayName("Should serve repeated experiment reads from the entity cache and never a stale experiment after a write")
+    @Sql("/test-data/single-record.sql")
+    @Test
+    void shouldNotServeStaleCachedExperiments() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, ID)).andExpect(status().isOk());
+        long hits = statistics.getSecondLevelCacheHitCount();
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, ID)).andExpect(status().isOk());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hits);
+
+        mvc.perform(patch(EXPERIMENT_ID_ENDPOINT, ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"method\": \"cohort\"}"))
+                .andExpect(status().isOk());
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, ID))
+                .andExpect(jsonPath("$.method", Matchers.equalTo("cohort")))
+                .andExpect(jsonPath("$.version", Matchers.equalTo(1)));
+
+        mvc.perform(put(EXPERIMENT_ID_ENDPOINT, ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Cached Title\"}"))
+                .andExpect(status().isOk());
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, ID))
+                .andExpect(jsonPath("$.title", Matchers.equalTo("Cached Title")))
+                .andExpect(jsonPath("$.method", Matchers.equalTo("cohort")))
+                .andExpect(jsonPath("$.version", Matchers.equalTo(2)));
+
+        mvc.perform(delete(EXPERIMENT_ID_ENDPOINT, ID)).andExpect(status().isNoContent());
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, ID)).andExpect(status().isNotFound());
+    }
+
+    @DisplayName("Deleting an experiment should keep other experiments in the second-level cache")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldKeepOtherExperimentsCachedOnDelete() throws Exception {
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, 1)).andExpect(status().isOk());
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, 2)).andExpect(status().isOk());
+        assertThat(entityManagerFactory.getCache().contains(Experiment.class, 2L)).isTrue();
+
+        mvc.perform(delete(EXPERIMENT_ID_ENDPOINT, 1)).andExpect(status().isNoContent());
+
+        assertThat(entityManagerFactory.getCache().contains(Experiment.class, 2L)).isTrue();
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, 1)).andExpect(status().isNotFound());
+    }
+
+    @DisplayName("Should never read an experiment older than the last completed patch under concurrent reads")
+    @Sql("/test-data/single-record.sql")
+    @Test
+    void shouldNotCacheExperimentsReadDuringPatch() throws Exception {
+        AtomicLong completedVersion = new AtomicLong();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<String> staleReads = new CopyOnWriteArrayList<>();
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> reads = new ArrayList<>();
+            for (int reader = 0; reader < 4; reader++) {
+                reads.add(readers.submit(() -> {
+                    while (writing.get()) {
+                        long expected = completedVersion.get();
+                        long actual = experimentService.findById(ID).getVersion();
+                        if (actual < expected) {
+                            staleReads.add("read version " + actual + " after version " + expected);
+                        }
+                    }
+                }));
+            }
+            for (int i = 0; i < 200; i++) {
+                Experiment patched = experimentService.patch(ID, Experiment.builder().method("method " + i).build(), null);
+                completedVersion.set(patched.getVersion());
+            }
+            writing.set(false);
+            for (Future<?> read : reads) {
+                read.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+            readers.shutdownNow();
+        }
+
+        assertThat(staleReads).isEmpty();
+        assertThat(experimentService.findById(ID).getMethod()).isEqualTo("method 199");
+    }
+
+    @DisplayName("Should serve list responses as CBOR and protobuf on request, and as JSON by default")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldNegotiateBinaryEncodings() throws Exception {
+        byte[] cbor = mvc.perform(get(EXPERIMENTS_ENDPOINT + "?size=2").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode page = new CBORMapper().readTree(cbor);
+        assertThat(page.get("content")).hasSize(2);
+        assertThat(page.get("totalElements").asInt()).isEqualTo(5);
+
+        byte[] protobuf = mvc.perform(get(EXPERIMENTS_ENDPOINT + "?size=2&fields=id,status")
+                        .accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        ExperimentPageMessage message = ExperimentPageMessage.parseFrom(protobuf);
+        assertThat(message.getContentList()).hasSize(2)
+                .allSatisfy(experiment -> assertThat(experiment.hasTitle()).isFalse());
+        assertThat(message.getTotalElements()).isEqualTo(5);
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?size=2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
     @DisplayName("Should retrieve filtered experiment records")
     @Sql("/test-data/multi-record.sql")
     @Test
@@ -149,4 +431,199 @@ class LabExperimentIntegrationTest extends PostgresTestContainer {
                         jsonPath("$.content[0].id", Matchers.equalTo(1))
                 );
     }
+
+    @DisplayName("Should count facets of all and of filtered experiment records, following writes")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldCountFacets() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "/facets"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.total", Matchers.equalTo(5)),
+                        jsonPath("$.status.PLANNED", Matchers.equalTo(2)),
+                        jsonPath("$.category.Immunology", Matchers.equalTo(2)),
+                        jsonPath("$.method.randomized", Matchers.equalTo(1))
+                );
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "/facets?category={category}", "Immunology"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.total", Matchers.equalTo(2)),
+                        jsonPath("$.status.PLANNED", Matchers.equalTo(1)),
+                        jsonPath("$.status.CANCELLED", Matchers.equalTo(1)),
+                        jsonPath("$.category.Oncology").doesNotExist()
+                );
+
+        mvc.perform(delete(EXPERIMENT_ID_ENDPOINT, 1))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "/facets"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.total", Matchers.equalTo(4)),
+                        jsonPath("$.status.PLANNED", Matchers.equalTo(1)),
+                        jsonPath("$.method['double-blind']").doesNotExist()
+                );
+    }
+
+    @DisplayName("Should walk all filtered experiment records with cursor pagination")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldWalkFilteredExperimentRecordsWithCursor() throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        String cursor = "";
+        do {
+            MvcResult result = mvc.perform(get(EXPERIMENTS_ENDPOINT + "?cursor={cursor}&size=1&status={status}&sort=title",
+                            cursor, ExperimentStatus.PLANNED))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            String body = result.getResponse().getContentAsString();
+            ids.addAll(JsonPath.read(body, "$.content[*].id"));
+            cursor = JsonPath.read(body, "$.nextCursor");
+        } while (cursor != null);
+
+        assertThat(ids).containsExactly(4, 1);
+    }
+
+    @DisplayName("Should return full-text search results ranked by relevance")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldReturnRankedSearchResults() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "/search?q={q}", "vaccine OR immunology"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.content[*].id", Matchers.contains(1, 5)),
+                        jsonPath("$.totalElements", Matchers.equalTo(2))
+                );
+    }
+
+    @DisplayName("Should insert valid experiments of a JSON array batch and report rejected ones")
+    @Test
+    void shouldCreateExperimentBatchFromJsonArray() throws Exception {
+        Experiment invalid = toBuilder(EXPERIMENT_2).id(null).title(" ").build();
+        String batch = "[" + jsonUtil.toJson(UNSAVED_EXPERIMENT) + "," + jsonUtil.toJson(invalid) + ","
+                + jsonUtil.toJson(toBuilder(EXPERIMENT_2).id(null).build()) + "]";
+
+        mvc.perform(post(EXPERIMENTS_ENDPOINT + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.created", Matchers.equalTo(2)),
+                        jsonPath("$.rejected", Matchers.equalTo(1)),
+                        jsonPath("$.items[*].index", Matchers.contains(0, 1, 2)),
+                        jsonPath("$.items[1].status", Matchers.equalTo("REJECTED")),
+                        jsonPath("$.items[1].errors.title", Matchers.equalTo("Title is not provided")),
+                        jsonPath("$.items[2].id", Matchers.notNullValue())
+                );
+
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("Should insert experiments of an NDJSON batch")
+    @Test
+    void shouldCreateExperimentBatchFromNdjson() throws Exception {
+        String batch = jsonUtil.toJson(UNSAVED_EXPERIMENT) + "\n"
+                + jsonUtil.toJson(toBuilder(EXPERIMENT_2).id(null).build()) + "\n";
+
+        mvc.perform(post(EXPERIMENTS_ENDPOINT + "/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", Matchers.equalTo(2)));
+
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("Should tag request metrics with the filter shape and count Hibernate statements")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldRecordRequestMetricsByFilterShape() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?status={status}&category={category}",
+                        ExperimentStatus.PLANNED, "Virology"))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("http.server.requests")
+                .tags("uri", EXPERIMENTS_ENDPOINT, "filter", "category+status")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("experiment.request.statements")
+                .tags("uri", EXPERIMENTS_ENDPOINT, "filter", "category+status")
+                .summary().max()).isGreaterThanOrEqualTo(1);
+    }
+
+    @DisplayName("Should export filtered experiment records as CSV")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldExportFilteredExperimentRecordsAsCsv() throws Exception {
+        MvcResult result = mvc.perform(get(EXPERIMENTS_ENDPOINT + "/export?status={status}", ExperimentStatus.PLANNED)
+                        .accept("text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        id,title,leadResearcher,method,status,category,startDate
+                        4,Antiviral Compound Screening,Dr. Dan,in-vitro,PLANNED,Virology,2023-06-05
+                        1,Vaccine Study,Dr. Alice,double-blind,PLANNED,Immunology,2025-10-15
+                        """));
+    }
+
+    @DisplayName("Should export filtered experiment records as NDJSON by default")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldExportFilteredExperimentRecordsAsNdjson() throws Exception {
+        MvcResult result = mvc.perform(get(EXPERIMENTS_ENDPOINT + "/export?category={category}", "Immunology"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines().map(line -> jsonUtil.fromJson(line).getId()))
+                .containsExactly(5L, 1L);
+    }
+
+    @DisplayName("Should import valid CSV rows and report rejected ones")
+    @Test
+    void shouldImportCsvAndReportRejectedRows() throws Exception {
+        String csv = """
+                id,title,leadResearcher,method,status,category,startDate
+                ,Vaccine Study,Dr. Alice,double-blind,PLANNED,Immunology,2025-10-15
+                ," ",Dr. Bob,case-control,ONGOING,Oncology,2024-11-01
+                ,Diabetes Drug Response,Dr. Carol,randomized,FINISHED,Endocrinology,
+                ,"Screening, phase 2",Dr. Dan,in-vitro,PLANNED,Virology,2023-02-30
+                ,"Pathway ""Mapping""\",Dr. Eve,observational,CANCELLED,Immunology,
+                """;
+
+        mvc.perform(post(EXPERIMENTS_ENDPOINT + "/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.imported", Matchers.equalTo(2)),
+                        jsonPath("$.rejected", Matchers.equalTo(3)),
+                        jsonPath("$.rejectedRows[*].row", Matchers.contains(2, 3, 4)),
+                        jsonPath("$.rejectedRows[0].errors.title", Matchers.equalTo("Title is not provided")),
+                        jsonPath("$.rejectedRows[1].errors.status", Matchers.equalTo("Experiment status is not valid")),
+                        jsonPath("$.rejectedRows[2].errors.startDate", Matchers.equalTo("Start date is not a valid date"))
+                );
+
+        assertThat(repository.findAll())
+                .extracting(Experiment::getTitle)
+                .containsExactlyInAnyOrder("Vaccine Study", "Pathway \"Mapping\"");
+    }
+
+    @DisplayName("When CSV header does not match, should return 400 Bad Request and import nothing")
+    @Test
+    void shouldRejectCsvWithUnexpectedHeader() throws Exception {
+        mvc.perform(post(EXPERIMENTS_ENDPOINT + "/import")
+                        .contentType("text/csv")
+                        .content("title,method\nVaccine Study,double-blind\n"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(repository.count()).isZero();
+    }
 }
@@ -0,0 +1,86 @@
+package com.epam.lab_experiment;
+
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.repository.ExperimentRepository;
+import com.epam.lab_experiment.web.ReactiveExperimentServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+@SpringBootTest(properties = "experiment.reactive.port=0")
+@ActiveProfiles("reactive")
+@AutoConfigureJsonTesters
+class ReactiveExperimentIntegrationTest extends PostgresTestContainer {
+
+    @Autowired
+    private ReactiveExperimentServer server;
+    @Autowired
+    private ExperimentRepository repository;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + server.getPort())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @DisplayName("Should list filtered and sorted experiments without counting them")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldListFilteredExperiments() {
+        client.get().uri("/experiments?status=PLANNED&sort=title&size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[*].id").value(contains(4))
+                .jsonPath("$.hasNext").isEqualTo(true)
+                .jsonPath("$.totalElements").doesNotExist()
+                .jsonPath("$.countStrategy").isEqualTo("NONE");
+    }
+
+    @DisplayName("Should stream filtered experiments as NDJSON in the default order")
+    @Sql("/test-data/multi-record.sql")
+    @Test
+    void shouldExportFilteredExperiments() {
+        List<Experiment> exported = client.get().uri("/experiments/export?category=Immunology")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Experiment.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(exported)
+                .extracting(Experiment::getId)
+                .containsExactly(5L, 1L);
+    }
+
+    @DisplayName("When sorted by an unknown property, should return 400 Bad Request")
+    @Test
+    void shouldRejectUnknownSortProperty() {
+        client.get().uri("/experiments?sort=search_vector")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
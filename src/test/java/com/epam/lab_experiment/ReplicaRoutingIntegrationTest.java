@@ -0,0 +1,146 @@
+package com.epam.lab_experiment;
+
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import com.epam.lab_experiment.repository.ExperimentReadYourWrites;
+import com.epam.lab_experiment.service.ExperimentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against a primary and a streaming replica cloned from it with {@code pg_basebackup}.
+ */
+@Testcontainers
+@ActiveProfiles("test")
+@SpringBootTest(properties = "experiment.replica.enabled=true")
+@AutoConfigureJsonTesters
+class ReplicaRoutingIntegrationTest {
+
+    private static final String USER = "test-user";
+    private static final String PASSWORD = "changeit";
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> PRIMARY =
+            new PostgreSQLContainer<>(DockerImageName.parse(PostgresTestContainer.POSTGRES_IMAGE_NAME))
+                    .withDatabaseName("testdb")
+                    .withUsername(USER)
+                    .withPassword(PASSWORD)
+                    .withNetwork(NETWORK)
+                    .withNetworkAliases("primary")
+                    .withCopyToContainer(Transferable.of("""
+                            echo 'host replication all all scram-sha-256' >> "$PGDATA/pg_hba.conf"
+                            """), "/docker-entrypoint-initdb.d/allow-replication.sh");
+
+    @Container
+    static final GenericContainer<?> REPLICA =
+            new GenericContainer<>(DockerImageName.parse(PostgresTestContainer.POSTGRES_IMAGE_NAME))
+                    .withNetwork(NETWORK)
+                    .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+                    .withEnv("PGPASSWORD", PASSWORD)
+                    .dependsOn(PRIMARY)
+                    .withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint("bash", "-c", """
+                            mkdir -p /tmp/replica && chown postgres /tmp/replica && chmod 700 /tmp/replica \
+                            && gosu postgres pg_basebackup -h primary -U %s -D /tmp/replica -R -X stream \
+                            && exec gosu postgres postgres -D /tmp/replica
+                            """.formatted(USER)))
+                    .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ExperimentService experimentService;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("experiment.replica.replicas[0].url", () -> "jdbc:postgresql://%s:%d/testdb".formatted(
+                REPLICA.getHost(), REPLICA.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ExperimentReadYourWrites.clear();
+        jdbcTemplate.update("DELETE FROM experiment");
+    }
+
+    @DisplayName("Read-only transactions should run on the replica and read-write transactions on the primary")
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertThat(inRecovery(true)).isTrue();
+        assertThat(inRecovery(false)).isFalse();
+    }
+
+    @DisplayName("After a write, reads of the same request should stay on the primary")
+    @Test
+    void shouldReadOwnWritesFromPrimary() throws InterruptedException {
+        experimentService.save(Experiment.builder()
+                .title("Vaccine Study")
+                .leadResearcher("Dr. Alice")
+                .method("randomized")
+                .category("Immunology")
+                .status(ExperimentStatus.PLANNED)
+                .startDate(LocalDate.of(2025, 9, 15))
+                .build());
+
+        assertThat(inRecovery(true)).isFalse();
+        assertThat(experimentService.facets(new Experiment()).total()).isEqualTo(1);
+
+        ExperimentReadYourWrites.clear();
+        assertThat(inRecovery(true)).isTrue();
+        awaitReplication();
+        assertThat(experimentService.facets(new Experiment()).total()).isEqualTo(1);
+    }
+
+    /**
+     * Waits until the replica has replayed the primary's WAL up to its current position.
+     */
+    private void awaitReplication() throws InterruptedException {
+        String primaryLsn = jdbcTemplate.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        for (int attempt = 0; attempt < 100; attempt++) {
+            if (Boolean.TRUE.equals(readOnly.execute(status -> jdbcTemplate.queryForObject(
+                    "SELECT pg_last_wal_replay_lsn() >= ?::pg_lsn", Boolean.class, primaryLsn)))) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Replica did not catch up with " + primaryLsn);
+    }
+
+    private boolean inRecovery(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+    }
+}
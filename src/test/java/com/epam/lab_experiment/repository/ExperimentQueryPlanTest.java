@@ -0,0 +1,311 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.PostgresTestContainer;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import com.epam.lab_experiment.util.SqlCapture;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the plans of every WHERE shape {@link ExperimentSpecification} can emit, under each sort
+ * the list endpoint is commonly called with, against a committed baseline. Both the page query
+ * and its count query are planned.
+ * <p>
+ * Plans are generic ({@code EXPLAIN (GENERIC_PLAN)}), so they depend on the table statistics
+ * and the SQL Hibernate renders, not on filter values. A query missing from the baseline fails
+ * when it sequentially scans an {@code experiment} partition for less than
+ * {@code plan.seqScanSelectivity} of its rows, which an index should serve; scans that read most
+ * of a partition are left to the planner. A recorded query fails when it gains a sequential scan,
+ * uses different scans or indexes than recorded, or costs more than {@code plan.costTolerance}
+ * times its baseline. After an intended change, re-record with
+ * {@code ./gradlew test --tests '*ExperimentQueryPlanTest' -Pplan.record=true} and commit the
+ * baseline.
+ */
+@DataJpaTest(showSql = false, properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.epam.lab_experiment.util.SqlCapture")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExperimentQueryPlanTest extends PostgresTestContainer {
+
+    private static final Path BASELINE = Path.of("src", "test", "resources", "plans", "experiment-query-plans.json");
+    private static final TypeReference<Map<String, PlanSummary>> BASELINE_TYPE = new TypeReference<>() {};
+
+    private static final boolean RECORD = Boolean.getBoolean("plan.record");
+    private static final int ROWS = Integer.getInteger("plan.rows", 200_000);
+    private static final double COST_TOLERANCE = Double.parseDouble(System.getProperty("plan.costTolerance", "2.0"));
+    private static final double SEQ_SCAN_SELECTIVITY =
+            Double.parseDouble(System.getProperty("plan.seqScanSelectivity", "0.05"));
+    /**
+     * Partitions this small are scanned faster than probed through an index.
+     */
+    private static final double SMALL_RELATION_ROWS = 1000;
+
+    /**
+     * Large enough for ANALYZE to read every seeded row instead of a random sample, so that estimates,
+     * and with them the plans, are the same on every run.
+     */
+    private static final int STATISTICS_TARGET = 10_000;
+    private static final List<String> FILTERED_COLUMNS =
+            List.of("id", "title", "lead_researcher", "method", "status", "category", "start_date");
+
+    /**
+     * Prefix of sequential scans on the experiment partitions.
+     */
+    private static final String SEQ_SCAN_ON_EXPERIMENT = "Seq Scan on experiment";
+    private static final Pattern JDBC_PARAMETER = Pattern.compile("\\?");
+
+    private static final Map<String, Object> FILTER_VALUES = Map.of(
+            ExperimentSpecification.TITLE, "vaccine",
+            ExperimentSpecification.CATEGORY, "Immunology",
+            ExperimentSpecification.METHOD, "randomized",
+            ExperimentSpecification.LEAD_RESEARCHER, "smith",
+            ExperimentSpecification.STATUS, ExperimentStatus.ONGOING,
+            ExperimentSpecification.START_DATE, LocalDate.of(2020, 1, 1)
+    );
+
+    private static final List<Sort> SORTS = List.of(
+            Sort.by(Sort.Direction.DESC, ExperimentSpecification.ID),
+            Sort.by(ExperimentSpecification.TITLE),
+            Sort.by(Sort.Direction.DESC, ExperimentSpecification.START_DATE)
+    );
+
+    /**
+     * Skewed like real data: a few categories, methods and researchers own most rows.
+     */
+    private static final String SEED = """
+            INSERT INTO experiment (title, lead_researcher, method, status, category, start_date)
+            SELECT (ARRAY['Vaccine', 'Tumor', 'Insulin', 'Gene', 'Protein', 'Antibody', 'Enzyme', 'Neuron'])
+                       [1 + floor(power(random(), 2) * 8)::int] || ' study ' || n,
+                   'Dr. ' || (ARRAY['Smith', 'Johnson', 'Garcia', 'Lee', 'Brown', 'Nguyen', 'Patel', 'Kim'])
+                       [1 + floor(power(random(), 2) * 8)::int] || ' ' || floor(random() * 100)::int,
+                   (ARRAY['randomized', 'double-blind', 'observational', 'case-control', 'in-vitro', 'cohort'])
+                       [1 + floor(power(random(), 2) * 6)::int],
+                   (ARRAY['COMPLETED', 'COMPLETED', 'ONGOING', 'PLANNED', 'CANCELLED'])[1 + floor(random() * 5)::int],
+                   (ARRAY['Oncology', 'Immunology', 'Virology', 'Cardiology', 'Neurology', 'Endocrinology',
+                          'Genetics', 'Microbiology', 'Pharmacology', 'Epidemiology'])
+                       [1 + floor(power(random(), 3) * 10)::int],
+                   CASE WHEN random() < 0.1 THEN NULL ELSE DATE '2016-01-01' + floor(random() * 3650)::int END
+            FROM generate_series(1, ?) AS n
+            """;
+
+    private final Map<String, PlanSummary> recorded = new TreeMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private Map<String, PlanSummary> baseline;
+
+    @Autowired
+    private ExperimentRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcConnectionDetails connectionDetails;
+
+    /**
+     * Explains over the simple query protocol, the only one that sends {@code $n} placeholders unbound.
+     */
+    private Connection planner;
+
+    @BeforeAll
+    void seedDatabaseOnce() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT experiment_create_partition(y) FROM generate_series(2016, 2025) AS y");
+                statement.execute("SELECT setseed(0.42)");
+            }
+            try (PreparedStatement statement = connection.prepareStatement(SEED)) {
+                statement.setInt(1, ROWS);
+                statement.executeUpdate();
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (String column : FILTERED_COLUMNS) {
+                    statement.execute("ALTER TABLE experiment ALTER COLUMN %s SET STATISTICS %d"
+                            .formatted(column, STATISTICS_TARGET));
+                }
+                statement.execute("VACUUM ANALYZE experiment");
+            }
+        }
+        Properties properties = new Properties();
+        properties.setProperty("user", connectionDetails.getUsername());
+        properties.setProperty("password", connectionDetails.getPassword());
+        properties.setProperty("preferQueryMode", "simple");
+        planner = DriverManager.getConnection(connectionDetails.getJdbcUrl(), properties);
+
+        baseline = Files.exists(BASELINE) ? objectMapper.readValue(BASELINE.toFile(), BASELINE_TYPE) : Map.of();
+    }
+
+    @AfterAll
+    void cleanUpAndRecord() throws Exception {
+        planner.close();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM experiment");
+        }
+        if (RECORD) {
+            Files.createDirectories(BASELINE.getParent());
+            objectMapper.writeValue(BASELINE.toFile(), recorded);
+        }
+    }
+
+    static Stream<Arguments> queries() {
+        List<String> filters = ExperimentSpecification.FILTER_PROPERTIES;
+        return IntStream.range(0, 1 << filters.size()).boxed()
+                .flatMap(mask -> SORTS.stream().map(sort -> {
+                    Experiment filter = new Experiment();
+                    for (int i = 0; i < filters.size(); i++) {
+                        if ((mask & 1 << i) != 0) {
+                            new BeanWrapperImpl(filter).setPropertyValue(filters.get(i), FILTER_VALUES.get(filters.get(i)));
+                        }
+                    }
+                    return Arguments.of(ExperimentSpecification.shape(filter), sort, filter);
+                }));
+    }
+
+    @DisplayName("Query plans should match the baseline")
+    @ParameterizedTest(name = "{0} sorted by {1}")
+    @MethodSource("queries")
+    void shouldKeepBaselinePlan(String shape, Sort sort, Experiment filter) throws Exception {
+        SqlCapture.clear();
+        repository.findAll(ExperimentSpecification.build(filter), PageRequest.of(0, 20, sort));
+
+        List<String> selects = SqlCapture.selects();
+        assertThat(selects).isNotEmpty();
+
+        for (String sql : selects) {
+            String key = "%s | %s | %s".formatted(shape, sort, sql.contains("count(") ? "count" : "page");
+            JsonNode plan = explain(sql);
+            PlanSummary actual = summarize(plan);
+            recorded.put(key, actual);
+
+            PlanSummary expected = baseline.get(key);
+            if (RECORD) {
+                continue;
+            }
+            if (expected == null) {
+                List<String> selectiveSeqScans = new ArrayList<>();
+                collectSelectiveSeqScans(plan, 0, selectiveSeqScans);
+                assertThat(selectiveSeqScans).as("sequential scans in %s that an index should serve", key).isEmpty();
+                continue;
+            }
+            assertThat(expected.scans()).as("new sequential scan in %s", key)
+                    .containsAll(actual.scans().stream().filter(scan -> scan.startsWith(SEQ_SCAN_ON_EXPERIMENT)).toList());
+            assertThat(actual.scans()).as("scans and indexes of %s", key).isEqualTo(expected.scans());
+            assertThat(actual.totalCost()).as("estimated cost of %s", key)
+                    .isLessThanOrEqualTo(expected.totalCost() * COST_TOLERANCE);
+        }
+    }
+
+    /**
+     * A generic plan accepts the {@code $n} placeholders without values.
+     */
+    private JsonNode explain(String sql) throws SQLException, IOException {
+        Matcher parameters = JDBC_PARAMETER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        for (int n = 1; parameters.find(); n++) {
+            parameters.appendReplacement(numbered, "\\$" + n);
+        }
+        parameters.appendTail(numbered);
+
+        try (Statement statement = planner.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON, GENERIC_PLAN) " + numbered)) {
+            resultSet.next();
+            return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    private static PlanSummary summarize(JsonNode plan) {
+        List<String> scans = new ArrayList<>();
+        collectScans(plan, scans);
+        return new PlanSummary(scans.stream().sorted().toList(), plan.get("Total Cost").asDouble());
+    }
+
+    private static void collectScans(JsonNode node, List<String> scans) {
+        String type = node.get("Node Type").asText();
+        if (type.endsWith("Scan")) {
+            String target = node.has("Index Name") ? node.get("Index Name").asText() : node.path("Relation Name").asText();
+            scans.add(type + " on " + target);
+        }
+        node.path("Plans").forEach(child -> collectScans(child, scans));
+    }
+
+    /**
+     * Sequential scans of experiment partitions expected to return under {@link #SEQ_SCAN_SELECTIVITY}
+     * of the partition. Rows of parallel scans are estimated per process, so they are scaled by the
+     * workers of the enclosing gather plus the leader.
+     */
+    private void collectSelectiveSeqScans(JsonNode node, int workers, List<String> scans) throws SQLException {
+        String type = node.get("Node Type").asText();
+        String relation = node.path("Relation Name").asText();
+        if (type.equals("Seq Scan") && relation.startsWith("experiment")) {
+            double rows = node.get("Plan Rows").asDouble() * (node.path("Parallel Aware").asBoolean() ? workers + 1 : 1);
+            double relationRows = relationRows(node.path("Schema").asText("public"), relation);
+            if (relationRows >= SMALL_RELATION_ROWS && rows < relationRows * SEQ_SCAN_SELECTIVITY) {
+                scans.add("Seq Scan on %s for ~%.0f of %.0f rows".formatted(relation, rows, relationRows));
+            }
+        }
+        int childWorkers = node.has("Workers Planned") ? node.get("Workers Planned").asInt() : workers;
+        for (JsonNode child : node.path("Plans")) {
+            collectSelectiveSeqScans(child, childWorkers, scans);
+        }
+    }
+
+    private double relationRows(String schema, String relation) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("""
+                     SELECT c.reltuples FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                     WHERE n.nspname = ? AND c.relname = ?
+                     """)) {
+            statement.setString(1, schema);
+            statement.setString(2, relation);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getDouble(1) : 0;
+            }
+        }
+    }
+
+    /**
+     * @param scans     scan nodes with their relation or index, sorted
+     * @param totalCost estimated cost of the whole query
+     */
+    record PlanSummary(List<String> scans, double totalCost) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.epam.lab_experiment.repository;
+
+import com.epam.lab_experiment.PostgresTestContainer;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.util.SqlCapture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.epam.lab_experiment.util.SqlCapture")
+class ExperimentSpecificationIndexTest extends PostgresTestContainer {
+
+    @Autowired
+    private ExperimentRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DisplayName("Substring filters should be served by the trigram indexes")
+    @ParameterizedTest
+    @CsvSource({
+            "title,          Vaccine, experiment_default_title_trgm_idx",
+            "leadResearcher, Alice,   experiment_default_lead_researcher_trgm_idx"
+    })
+    void shouldUseTrigramIndexForSubstringFilter(String property, String value, String index) throws Exception {
+        Experiment filter = new Experiment();
+        new BeanWrapperImpl(filter).setPropertyValue(property, value);
+
+        SqlCapture.clear();
+        repository.findAll(ExperimentSpecification.build(filter));
+
+        String plan = explain(SqlCapture.lastSelect(), "%" + value.toLowerCase() + "%");
+
+        assertThat(plan).contains("Bitmap Index Scan on " + index);
+    }
+
+    /**
+     * Sequential scans are disabled so that the assertion only depends on whether an index
+     * expression matches the generated predicate, not on table statistics.
+     */
+    private String explain(String sql, String parameter) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                statement.setString(1, parameter);
+                StringJoiner plan = new StringJoiner("\n");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                return plan.toString();
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.config.ExperimentConcurrencyLimitConfig;
+import com.epam.lab_experiment.config.ExperimentConcurrencyLimitProperties;
+import com.epam.lab_experiment.exception.ExperimentServiceOverloadedException;
+import com.epam.lab_experiment.model.Experiment;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExperimentConcurrencyLimiterTest {
+
+    @DisplayName("Should reject a call once all permits are held past the acquire timeout, and admit it after release")
+    @Test
+    void shouldRejectCallsBeyondPermits() throws Throwable {
+        ExperimentConcurrencyLimiter limiter = new ExperimentConcurrencyLimiter(1, Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        MethodInvocation blocking = mock(MethodInvocation.class);
+        when(blocking.proceed()).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return "first";
+        });
+        MethodInvocation quick = mock(MethodInvocation.class);
+        when(quick.proceed()).thenReturn("second");
+
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> invoke(limiter, blocking));
+        entered.await();
+
+        assertThatThrownBy(() -> limiter.invoke(quick))
+                .isInstanceOf(ExperimentServiceOverloadedException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(limiter.invoke(quick)).isEqualTo("second");
+    }
+
+    @DisplayName("Should keep admitting other calls while streaming calls hold all of their permits")
+    @Test
+    void shouldLimitStreamingCallsSeparately() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(ExperimentConcurrencyLimitConfig.class, LimitProperties.class)
+                .withPropertyValues("experiment.concurrency-limit.enabled=true",
+                        "experiment.concurrency-limit.permits=2",
+                        "experiment.concurrency-limit.streaming-permits=1",
+                        "experiment.concurrency-limit.acquire-timeout=50ms")
+                .run(context -> {
+                    CountDownLatch entered = new CountDownLatch(1);
+                    CountDownLatch release = new CountDownLatch(1);
+                    ExperimentService target = mock(ExperimentService.class);
+                    doAnswer(invocation -> {
+                        entered.countDown();
+                        release.await();
+                        return 0L;
+                    }).when(target).export(any(), any(), any());
+                    doReturn(new Experiment()).when(target).save(any());
+
+                    ProxyFactory proxyFactory = new ProxyFactory(target);
+                    proxyFactory.addInterface(ExperimentService.class);
+                    context.getBeansOfType(Advisor.class).values().forEach(proxyFactory::addAdvisor);
+                    ExperimentService service = (ExperimentService) proxyFactory.getProxy();
+
+                    CompletableFuture<Long> export = CompletableFuture.supplyAsync(
+                            () -> service.export(new Experiment(), Sort.unsorted(), experiment -> { }));
+                    entered.await();
+
+                    assertThat(service.save(new Experiment())).isNotNull();
+                    assertThatThrownBy(() -> service.export(new Experiment(), Sort.unsorted(), experiment -> { }))
+                            .isInstanceOf(ExperimentServiceOverloadedException.class);
+
+                    release.countDown();
+                    assertThat(export.get(5, TimeUnit.SECONDS)).isZero();
+                });
+    }
+
+    @EnableConfigurationProperties(ExperimentConcurrencyLimitProperties.class)
+    static class LimitProperties {
+    }
+
+    private static Object invoke(ExperimentConcurrencyLimiter limiter, MethodInvocation invocation) {
+        try {
+            return limiter.invoke(invocation);
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
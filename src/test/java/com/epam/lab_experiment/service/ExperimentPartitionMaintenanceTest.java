@@ -0,0 +1,119 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.PostgresTestContainer;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.repository.ExperimentPartitionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "experiment.partitioning.archive-after-years=5")
+@AutoConfigureJsonTesters
+class ExperimentPartitionMaintenanceTest extends PostgresTestContainer {
+
+    private static final int CURRENT_YEAR = 2026;
+
+    private static final String INSERT = """
+            INSERT INTO experiment (title, lead_researcher, method, status, category, start_date)
+            VALUES (?, 'Dr. Alice', 'randomized', ?, 'Immunology', ?)
+            """;
+
+    @Autowired
+    private ExperimentPartitionMaintenance maintenance;
+
+    @Autowired
+    private ExperimentPartitionRepository partitionRepository;
+
+    @Autowired
+    private ExperimentService experimentService;
+
+    @Autowired
+    private ExperimentSearchCache searchCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS experiment_archive.experiment_y2015");
+        jdbcTemplate.update("DELETE FROM experiment");
+        searchCache.invalidate();
+    }
+
+    @DisplayName("Should create future partitions and move dated rows out of the default partition")
+    @Test
+    void shouldCreatePartitionsAndPruneByStartDate() {
+        insert("Vaccine Study", "ONGOING", LocalDate.of(2021, 3, 1));
+        insert("Undated Study", "PLANNED", null);
+
+        maintenance.maintain(CURRENT_YEAR);
+
+        assertThat(partitionRepository.findPartitionYears()).contains(2021, 2026, 2027, 2028);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM experiment_default", Long.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM experiment_y2021", Long.class)).isEqualTo(1);
+        assertThat(experimentService.facets(new Experiment()).total()).isEqualTo(2);
+
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM experiment WHERE start_date >= DATE '2026-01-01'", String.class));
+        assertThat(plan).contains("experiment_y2026").doesNotContain("experiment_y2021");
+    }
+
+    @DisplayName("Should archive old partitions without planned or ongoing experiments")
+    @Test
+    void shouldArchiveInactiveOldPartitions() {
+        insert("Drug Response", "COMPLETED", LocalDate.of(2015, 5, 1));
+        insert("Compound Screening", "CANCELLED", LocalDate.of(2015, 8, 1));
+        insert("Long Cohort", "ONGOING", LocalDate.of(2016, 2, 1));
+        insert("Vaccine Study", "PLANNED", LocalDate.of(2025, 9, 15));
+
+        maintenance.maintain(CURRENT_YEAR);
+
+        assertThat(partitionRepository.findPartitionYears()).doesNotContain(2015).contains(2016, 2025);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM experiment_archive.experiment_y2015", Long.class))
+                .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM experiment", Long.class)).isEqualTo(2);
+        assertThat(experimentService.facets(new Experiment()))
+                .satisfies(facets -> {
+                    assertThat(facets.total()).isEqualTo(2);
+                    assertThat(facets.status()).doesNotContainKeys("COMPLETED", "CANCELLED");
+                });
+    }
+
+    @DisplayName("Should skip maintenance while another instance holds the maintenance lock")
+    @Test
+    void shouldSkipWhileAnotherInstanceMaintains() throws Exception {
+        insert("Vaccine Study", "ONGOING", LocalDate.of(2019, 3, 1));
+
+        try (Connection otherInstance = dataSource.getConnection();
+             Statement statement = otherInstance.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(hashtext('experiment_partition_maintenance'))");
+            try {
+                maintenance.maintain(CURRENT_YEAR);
+            } finally {
+                statement.execute("SELECT pg_advisory_unlock(hashtext('experiment_partition_maintenance'))");
+            }
+        }
+
+        assertThat(partitionRepository.findPartitionYears()).doesNotContain(2019);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM experiment_default WHERE start_date = DATE '2019-03-01'", Long.class)).isEqualTo(1);
+    }
+
+    private void insert(String title, String status, LocalDate startDate) {
+        jdbcTemplate.update(INSERT, title, status, startDate);
+    }
+}
@@ -0,0 +1,173 @@
+package com.epam.lab_experiment.service;
+
+import com.epam.lab_experiment.config.ExperimentReplicaProperties;
+import com.epam.lab_experiment.config.ExperimentSearchCacheProperties;
+import com.epam.lab_experiment.model.CountStrategy;
+import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentStatus;
+import com.epam.lab_experiment.repository.ExperimentReadYourWrites;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExperimentSearchCacheTest {
+
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+    private ExperimentSearchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExperimentSearchCache(new ExperimentSearchCacheProperties(100, Duration.ofMinutes(1)),
+                new ExperimentReplicaProperties(false, List.of(), Duration.ofSeconds(5), Duration.ofSeconds(5)));
+    }
+
+    @DisplayName("Should load pages from the primary within the replica lag window after an invalidation")
+    @Test
+    void shouldLoadFromPrimaryWithinReplicaLagWindow() {
+        cache = new ExperimentSearchCache(new ExperimentSearchCacheProperties(100, Duration.ofMinutes(1)),
+                new ExperimentReplicaProperties(true, List.of(), Duration.ofSeconds(5), Duration.ofSeconds(5)));
+        List<Boolean> onPrimary = new ArrayList<>();
+
+        cache.get(filter("Vaccine"), PAGEABLE, CountStrategy.EXACT, () -> {
+            onPrimary.add(ExperimentReadYourWrites.hasWritten());
+            return page(1);
+        });
+        cache.invalidate();
+        cache.get(filter("Vaccine"), PAGEABLE, CountStrategy.EXACT, () -> {
+            onPrimary.add(ExperimentReadYourWrites.hasWritten());
+            return page(2);
+        });
+
+        assertThat(onPrimary).containsExactly(false, true);
+        assertThat(ExperimentReadYourWrites.hasWritten()).isFalse();
+    }
+
+    @DisplayName("Should serve equivalent filters from the cache and record hits and misses")
+    @Test
+    void shouldServeEquivalentFiltersFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(filter("Vaccine"), PAGEABLE, CountStrategy.EXACT, () -> page(loads.incrementAndGet()));
+        Slice<Experiment> cached = cache.get(filter("vACCINE"), PAGEABLE, CountStrategy.EXACT, () -> page(loads.incrementAndGet()));
+
+        assertThat(total(cached)).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.statistics())
+                .hasFieldOrPropertyWithValue("hits", 1L)
+                .hasFieldOrPropertyWithValue("misses", 1L);
+    }
+
+    @DisplayName("Should cache pages of different count strategies separately")
+    @Test
+    void shouldSeparateCountStrategies() {
+        cache.get(filter(null), PAGEABLE, CountStrategy.EXACT, () -> page(1));
+        Slice<Experiment> estimated = cache.get(filter(null), PAGEABLE, CountStrategy.ESTIMATED, () -> page(2));
+
+        assertThat(total(estimated)).isEqualTo(2);
+    }
+
+    @DisplayName("Should not serve a page loaded concurrently with a write once the write has completed")
+    @Test
+    void shouldNotServePageLoadedBeforeInvalidation() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch writeCompleted = new CountDownLatch(1);
+
+        CompletableFuture<Slice<Experiment>> staleRead = CompletableFuture.supplyAsync(() ->
+                cache.get(filter(null), PAGEABLE, CountStrategy.EXACT, () -> {
+                    loading.countDown();
+                    await(writeCompleted);
+                    return page(1);
+                }));
+
+        loading.await();
+        cache.invalidate();
+        writeCompleted.countDown();
+
+        assertThat(total(staleRead.get(5, TimeUnit.SECONDS))).isEqualTo(1);
+        assertThat(total(cache.get(filter(null), PAGEABLE, CountStrategy.EXACT, () -> page(2)))).isEqualTo(2);
+    }
+
+    @DisplayName("Under concurrent writes, reads started after a completed write should never see older data")
+    @Test
+    void shouldNeverServeDataOlderThanLastCompletedWrite() throws Exception {
+        AtomicLong database = new AtomicLong();
+        AtomicLong completedWrite = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger staleReads = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> readers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            readers.add(executor.submit(() -> {
+                while (running.get()) {
+                    long expectedAtLeast = completedWrite.get();
+                    long seen = total(cache.get(filter(null), PAGEABLE, CountStrategy.EXACT, () -> page(database.get())));
+                    if (seen < expectedAtLeast) {
+                        staleReads.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        Future<?> writer = executor.submit(() -> {
+            for (long version = 1; version <= 5_000; version++) {
+                database.set(version);
+                cache.invalidate();
+                completedWrite.set(version);
+            }
+        });
+
+        writer.get(30, TimeUnit.SECONDS);
+        running.set(false);
+        for (Future<?> reader : readers) {
+            reader.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(staleReads).hasValue(0);
+    }
+
+    private static Experiment filter(String title) {
+        return Experiment.builder()
+                .title(title)
+                .status(ExperimentStatus.ONGOING)
+                .build();
+    }
+
+    private static Page<Experiment> page(long total) {
+        return new PageImpl<>(List.of(), PAGEABLE, total);
+    }
+
+    private static long total(Slice<Experiment> slice) {
+        return ((Page<Experiment>) slice).getTotalElements();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package com.epam.lab_experiment.service;
 
 import com.epam.lab_experiment.PostgresTestContainer;
+import com.epam.lab_experiment.config.ExperimentBatchProperties;
+import com.epam.lab_experiment.config.ExperimentCountCacheProperties;
+import com.epam.lab_experiment.config.ExperimentExportProperties;
+import com.epam.lab_experiment.config.ExperimentPartitioningProperties;
+import com.epam.lab_experiment.config.ExperimentReplicaProperties;
+import com.epam.lab_experiment.config.ExperimentSearchCacheProperties;
+import com.epam.lab_experiment.config.ExperimentSlowQueryProperties;
 import com.epam.lab_experiment.model.Experiment;
 import com.epam.lab_experiment.util.JsonUtil;
 import jakarta.validation.Validator;
@@ -11,6 +18,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
@@ -35,6 +43,15 @@ import static org.mockito.Mockito.doReturn;
         "com.epam.lab_experiment.service",
         "com.epam.lab_experiment.util"
 })
+@EnableConfigurationProperties({
+        ExperimentBatchProperties.class,
+        ExperimentExportProperties.class,
+        ExperimentSearchCacheProperties.class,
+        ExperimentCountCacheProperties.class,
+        ExperimentSlowQueryProperties.class,
+        ExperimentPartitioningProperties.class,
+        ExperimentReplicaProperties.class
+})
 class ExperimentServiceImplTest extends PostgresTestContainer {
 
     @Autowired
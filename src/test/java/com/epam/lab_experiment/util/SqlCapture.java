@@ -0,0 +1,39 @@
+package com.epam.lab_experiment.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL Hibernate sends to the database, so tests can explain the exact statements.
+ * Register with {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static String lastSelect() {
+        List<String> selects = selects();
+        if (selects.isEmpty()) {
+            throw new IllegalStateException("No select statement captured");
+        }
+        return selects.get(selects.size() - 1);
+    }
+
+    public static List<String> selects() {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+    }
+}
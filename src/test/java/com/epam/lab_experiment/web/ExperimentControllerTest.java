@@ -1,11 +1,16 @@
 package com.epam.lab_experiment.web;
 
 import com.epam.lab_experiment.exception.ExperimentNotFoundException;
+import com.epam.lab_experiment.exception.ExperimentVersionConflictException;
+import com.epam.lab_experiment.model.CountStrategy;
 import com.epam.lab_experiment.model.Experiment;
+import com.epam.lab_experiment.model.ExperimentChangeMarker;
+import com.epam.lab_experiment.model.ExperimentListing;
 import com.epam.lab_experiment.service.ExperimentService;
 import com.epam.lab_experiment.util.JsonUtil;
 import com.epam.lab_experiment.util.TestDataUtil;
 import jakarta.validation.*;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,13 +20,19 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.epam.lab_experiment.util.TestDataUtil.*;
@@ -34,9 +45,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @AutoConfigureJsonTesters
 @WebMvcTest(ExperimentController.class)
-@ComponentScan(basePackages = "com.epam.lab_experiment")
+@ComponentScan(basePackages = {
+        "com.epam.lab_experiment.web",
+        "com.epam.lab_experiment.util"
+})
 class ExperimentControllerTest {
 
+    private static final ExperimentChangeMarker MARKER = new ExperimentChangeMarker(7, Instant.parse("2025-10-01T12:00:00Z"));
+
     @Autowired
     private MockMvc mvc;
 
@@ -46,6 +62,11 @@ class ExperimentControllerTest {
     @MockitoBean
     private ExperimentService service;
 
+    @BeforeEach
+    void setUp() {
+        doReturn(MARKER).when(service).changeMarker();
+    }
+
     @DisplayName("Should return result with default pagination offset = 0, size = 10, sort = id, DESC")
     @Test
     void shouldReturnPagedResult() throws Exception {
@@ -54,8 +75,8 @@ class ExperimentControllerTest {
         int pageSize = 10;
         Pageable defaultPagination = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "id"));
 
-        doReturn(new PageImpl<>(experiments, defaultPagination, experiments.size()))
-                .when(service).findAll(any(Experiment.class), eq(defaultPagination));
+        doReturn(new ExperimentListing<>(new PageImpl<>(experiments, defaultPagination, experiments.size()), MARKER))
+                .when(service).findAll(any(Experiment.class), eq(defaultPagination), eq(CountStrategy.EXACT));
 
         mvc.perform(get(EXPERIMENTS_ENDPOINT))
                 .andExpect(status().isOk())
@@ -64,11 +85,145 @@ class ExperimentControllerTest {
                         jsonPath("$.page", equalTo(pageNumber)),
                         jsonPath("$.size", equalTo(pageSize)),
                         jsonPath("$.totalPages", equalTo(1)),
-                        jsonPath("$.totalElements", equalTo(experiments.size()))
+                        jsonPath("$.totalElements", equalTo(experiments.size())),
+                        jsonPath("$.countStrategy", equalTo("EXACT"))
         );
 
     }
 
+    @DisplayName("When count is NONE, should return a slice without totals")
+    @Test
+    void shouldReturnSliceWithoutTotals() throws Exception {
+        Pageable defaultPagination = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+
+        doReturn(new ExperimentListing<>(new SliceImpl<>(List.of(EXPERIMENT_1), defaultPagination, true), MARKER))
+                .when(service).findAll(any(Experiment.class), eq(defaultPagination), eq(CountStrategy.NONE));
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?count=NONE"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.content", hasSize(1)),
+                        jsonPath("$.hasNext", equalTo(true)),
+                        jsonPath("$.totalElements").doesNotExist(),
+                        jsonPath("$.totalPages").doesNotExist(),
+                        jsonPath("$.countStrategy", equalTo("NONE"))
+                );
+    }
+
+    @DisplayName("When no experiment has changed since the given ETag, should return 304 without querying the page")
+    @Test
+    void shouldReturn304NotModifiedForUnchangedList() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT).header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"7\""))
+                .andExpect(content().string(""));
+
+        verify(service, never()).findAll(any(Experiment.class), any(Pageable.class), any(CountStrategy.class));
+    }
+
+    @DisplayName("Should tag a list with the marker it was read at, not a newer current one")
+    @Test
+    void shouldTagListWithMarkerOfItsRows() throws Exception {
+        Pageable defaultPagination = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        doReturn(new ExperimentChangeMarker(8, Instant.parse("2025-10-01T12:05:00Z"))).when(service).changeMarker();
+        doReturn(new ExperimentListing<>(new PageImpl<>(List.of(EXPERIMENT_1), defaultPagination, 1), MARKER))
+                .when(service).findAll(any(Experiment.class), eq(defaultPagination), eq(CountStrategy.EXACT));
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT).header(HttpHeaders.IF_NONE_MATCH, "W/\"5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"7\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Wed, 01 Oct 2025 12:00:00 GMT"));
+    }
+
+    @DisplayName("Should return an experiment with its ETag and Last-Modified, and 304 once the client has it")
+    @Test
+    void shouldReturnExperimentOrNotModified() throws Exception {
+        Experiment experiment = TestDataUtil.toBuilder(EXPERIMENT_1)
+                .version(3)
+                .updatedAt(Instant.parse("2025-10-01T12:00:00Z"))
+                .build();
+        doReturn(experiment).when(service).findById(1);
+
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, 1))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Wed, 01 Oct 2025 12:00:00 GMT"))
+                .andExpect(jsonPath("$.title", equalTo(experiment.getTitle())));
+
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, 1).header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 01 Oct 2025 12:00:00 GMT"))
+                .andExpect(status().isNotModified());
+    }
+
+    @DisplayName("When the experiment does not exist, should return 404 Not Found")
+    @Test
+    void shouldReturn404NotFoundForMissingExperiment() throws Exception {
+        doThrow(new ExperimentNotFoundException(9)).when(service).findById(9);
+
+        mvc.perform(get(EXPERIMENT_ID_ENDPOINT, 9))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("When fields are given, should return only those properties")
+    @Test
+    void shouldReturnSparseFieldset() throws Exception {
+        Pageable defaultPagination = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        Map<String, Object> row = Map.of("id", 1, "title", "Vaccine Study");
+
+        doReturn(new ExperimentListing<>(new PageImpl<>(List.of(row), defaultPagination, 1), MARKER))
+                .when(service).findAll(any(Experiment.class), eq(List.of("id", "title")),
+                        eq(defaultPagination), eq(CountStrategy.EXACT));
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?fields=id,title,id"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.content[0].id", equalTo(1)),
+                        jsonPath("$.content[0].title", equalTo("Vaccine Study")),
+                        jsonPath("$.content[0].status").doesNotExist(),
+                        jsonPath("$.totalElements", equalTo(1))
+                );
+    }
+
+    @DisplayName("When fields contain an unknown property, should return 400 Bad Request")
+    @Test
+    void shouldReturn400BadRequestWhenFieldIsUnknown() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?fields=id,searchVector"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("When cursor parameter is present, should return a keyset slice with next cursor and without totals")
+    @Test
+    void shouldReturnCursorPagedResult() throws Exception {
+        List<Experiment> experiments = List.of(EXPERIMENT_2, EXPERIMENT_1);
+        Window<Experiment> window = Window.from(experiments,
+                i -> ScrollPosition.forward(Map.of("id", experiments.get(i).getId())), true);
+
+        doReturn(new ExperimentListing<>(window, MARKER)).when(service)
+                .scroll(any(Experiment.class), eq(Sort.by(Sort.Direction.DESC, "id")), eq(2), any());
+
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?cursor=&size=2"))
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.content", hasSize(experiments.size())),
+                        jsonPath("$.size", equalTo(2)),
+                        jsonPath("$.nextCursor", notNullValue()),
+                        jsonPath("$.totalElements").doesNotExist()
+                );
+    }
+
+    @DisplayName("When cursor is malformed, should return 400 Bad Request")
+    @Test
+    void shouldReturn400BadRequestWhenCursorIsMalformed() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?cursor=not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("When cursor pagination is sorted by a nullable property, should return 400 Bad Request")
+    @Test
+    void shouldReturn400BadRequestWhenCursorSortIsUnsupported() throws Exception {
+        mvc.perform(get(EXPERIMENTS_ENDPOINT + "?cursor=&sort=startDate"))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("Should return 201 Created and the saved experiment")
     @Test
     void shouldReturn201CreatedAndTheSavedExperiment() throws Exception {
@@ -187,6 +342,40 @@ class ExperimentControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @DisplayName("Should patch with the version from If-Match and return the new ETag")
+    @Test
+    void shouldPatchExperimentWithIfMatch() throws Exception {
+        Experiment changes = Experiment.builder()
+                .title("Renamed")
+                .build();
+        Experiment patched = TestDataUtil.toBuilder(EXPERIMENT_1)
+                .title("Renamed")
+                .version(4)
+                .build();
+
+        doReturn(patched).when(service).patch(ID, changes, 3L);
+
+        mvc.perform(
+                patch(EXPERIMENT_ID_ENDPOINT, ID)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(jsonUtil.toJson(changes))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version", equalTo(4)));
+    }
+
+    @DisplayName("When experiment version does not match If-Match, should return 412 Precondition Failed")
+    @Test
+    void whenVersionDoesNotMatchShouldReturn412PreconditionFailed() throws Exception {
+        doThrow(new ExperimentVersionConflictException(ID, 3))
+                .when(service).delete(ID, 3);
+
+        mvc.perform(delete(EXPERIMENT_ID_ENDPOINT, ID).header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     private Set<ConstraintViolation<Experiment>> createConstraintViolations() {
         Experiment exp = TestDataUtil.toBuilder(EXPERIMENT_1)
                 .title("  ")